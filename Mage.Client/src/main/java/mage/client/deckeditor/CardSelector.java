@@ -37,6 +37,7 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
 import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import mage.MageObject;
@@ -66,6 +67,7 @@ import mage.filter.predicate.other.CardTextPredicate;
 import mage.filter.predicate.other.ExpansionSetPredicate;
 import mage.view.CardView;
 import mage.view.CardsView;
+import org.apache.log4j.Logger;
 import org.mage.card.arcane.ManaSymbolsCellRenderer;
 
 /**
@@ -74,6 +76,8 @@ import org.mage.card.arcane.ManaSymbolsCellRenderer;
  */
 public class CardSelector extends javax.swing.JPanel implements ComponentListener, DragCardTarget {
 
+    private static final Logger logger = Logger.getLogger(CardSelector.class);
+
     private final java.util.List<Card> cards = new ArrayList<>();
     private BigCard bigCard;
     private boolean limited = false;
@@ -82,6 +86,8 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
 
     private final ActionListener searchAction = evt -> jButtonSearchActionPerformed(evt);
 
+    private FilterCardsTask filterCardsTask;
+
     /**
      * Creates new form CardSelector
      */
@@ -170,6 +176,12 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
      *
      */
     public void cleanUp() {
+        if (filterCardsTask != null) {
+            filterCardsTask.cancel(false);
+            filterCardsTask = null;
+            // done() of a cancelled search leaves the cursor to the next search
+            setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+        }
         this.cardGrid.clear();
         this.mainModel.clear();
     }
@@ -409,43 +421,91 @@ public class CardSelector extends javax.swing.JPanel implements ComponentListene
     }
 
     private void filterCards() {
-        FilterCard filter = buildFilter();
-        try {
+        // the search runs in the background so the EDT is not blocked by the DB query and
+        // the card view creation, a new search replaces a search that's still running
+        // (not interrupted, an interrupt can close the channel of the card DB during its query,
+        // the old search drops its result when it sees that it was cancelled)
+        if (filterCardsTask != null) {
+            filterCardsTask.cancel(false);
+        }
+        boolean chkPD = chkPennyDreadful.isSelected();
+        if (chkPD) {
+            generatePennyDreadfulHash();
+        }
+        setCursor(new Cursor(Cursor.WAIT_CURSOR));
+        if (limited) {
+            filterCardsTask = new FilterCardsTask(buildFilter(), new ArrayList<>(cards), null, chkPD);
+        } else {
+            filterCardsTask = new FilterCardsTask(buildFilter(), null, buildCriteria(), chkPD);
+        }
+        filterCardsTask.execute();
+    }
+
+    private class FilterCardsTask extends SwingWorker<CardsView, Void> {
+
+        private final FilterCard filter;
+        private final java.util.List<Card> limitedCards;
+        private final CardCriteria criteria;
+        private final boolean chkPD;
+
+        FilterCardsTask(FilterCard filter, java.util.List<Card> limitedCards, CardCriteria criteria, boolean chkPD) {
+            this.filter = filter;
+            this.limitedCards = limitedCards;
+            this.criteria = criteria;
+            this.chkPD = chkPD;
+        }
+
+        @Override
+        protected CardsView doInBackground() throws Exception {
             java.util.List<Card> filteredCards = new ArrayList<>();
-            setCursor(new Cursor(Cursor.WAIT_CURSOR));
-            
-            boolean chkPD = chkPennyDreadful.isSelected();
-            if (chkPD) {
-                generatePennyDreadfulHash();
-            }
-            
-            if (limited) {
-                for (Card card : cards) {
+            if (limitedCards != null) {
+                for (Card card : limitedCards) {
                     if (filter.match(card, null)) {
                         filteredCards.add(card);
                     }
                 }
             } else {
-                java.util.List<CardInfo> foundCards = CardRepository.instance.findCards(buildCriteria());
+                java.util.List<CardInfo> foundCards = CardRepository.instance.findCards(criteria);
                 for (CardInfo cardInfo : foundCards) {
+                    if (isCancelled()) {
+                        return null;
+                    }
+                    if (chkPD && !pdAllowed.containsKey(cardInfo.getName())) {
+                        continue;
+                    }
                     Card card = cardInfo.getMockCard();
                     if (filter.match(card, null)) {
-                        if (chkPD) {
-                            if (!pdAllowed.containsKey(card.getName())) {
-                                continue;
-                            }
-                        }
                         filteredCards.add(card);
                     }
                 }
             }
-            if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
-                this.toggleViewMode();
+            if (isCancelled()) {
+                return null;
+            }
+            return new CardsView(filteredCards);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                // the newer search resets the cursor
+                return;
+            }
+            try {
+                CardsView filteredCards = get();
+                if (currentView instanceof CardGrid && filteredCards.size() > CardGrid.MAX_IMAGES) {
+                    toggleViewMode();
+                }
+                currentView.loadCards(filteredCards, sortSetting, bigCard, null, false);
+                cardCount.setText(String.valueOf(filteredCards.size()));
+            } catch (InterruptedException | ExecutionException ex) {
+                logger.error("Error while searching cards", ex);
+            } finally {
+                setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+                if (filterCardsTask == this) {
+                    filterCardsTask = null;
+                }
             }
-            this.currentView.loadCards(new CardsView(filteredCards), sortSetting, bigCard, null, false);
-            this.cardCount.setText(String.valueOf(filteredCards.size()));
-        } finally {
-            setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
         }
     }
 
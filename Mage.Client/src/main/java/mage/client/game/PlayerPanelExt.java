@@ -150,7 +150,7 @@ public class PlayerPanelExt extends javax.swing.JPanel {
                 PlayerPanelExt.this.timerLabel.setText(text);
                 PlayerPanelExt.this.avatar.repaint();
             });
-            timer.init(gameId);
+            timer.init();
         }
     }
 
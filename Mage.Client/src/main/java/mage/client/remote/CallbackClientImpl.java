@@ -47,6 +47,7 @@ import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.utils.CompressUtil;
 import mage.view.*;
 import mage.view.ChatMessage.MessageType;
@@ -62,6 +63,8 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private int messageId = 0;
     private int gameInformMessageId = 0;
+    // game update that was posted last and is not yet handled by the EDT, newer updates of the game replace its view
+    private ClientCallback pendingGameUpdate;
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
@@ -71,8 +74,26 @@ public class CallbackClientImpl implements CallbackClient {
     public synchronized void processCallback(final ClientCallback callback) {
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
         callback.setData(CompressUtil.decompress(callback.getData()));
+        if (callback.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+            if (pendingGameUpdate != null && pendingGameUpdate.getObjectId().equals(callback.getObjectId())) {
+                // the waiting update would be outdated before it's shown, so it shows this view instead
+                pendingGameUpdate.setData(callback.getData());
+                pendingGameUpdate.setMessageId(callback.getMessageId());
+                return;
+            }
+            pendingGameUpdate = callback;
+        } else {
+            pendingGameUpdate = null;
+        }
         SwingUtilities.invokeLater(() -> {
             try {
+                if (callback.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+                    synchronized (this) {
+                        if (pendingGameUpdate == callback) {
+                            pendingGameUpdate = null;
+                        }
+                    }
+                }
                 logger.debug(callback.getMessageId() + " -- " + callback.getMethod());
                 switch (callback.getMethod()) {
                     case START_GAME: {
@@ -2,11 +2,7 @@ package org.mage.card.arcane;
 
 import com.google.common.collect.MapMaker;
 import mage.cards.action.ActionCallback;
-import mage.constants.CardType;
-import mage.constants.SubType;
-import mage.constants.SuperType;
 import mage.view.CardView;
-import mage.view.CounterView;
 import mage.view.PermanentView;
 import mage.view.StackAbilityView;
 import net.java.truevfs.access.TFile;
@@ -135,47 +131,14 @@ public class CardPanelRenderImpl extends CardPanel {
         }
 
         private int hashCodeImpl() {
-            StringBuilder sb = new StringBuilder();
-            sb.append((char) (artImage != null ? 1 : 0));
-            sb.append((char) width);
-            sb.append((char) height);
-            sb.append((char) (isSelected ? 1 : 0));
-            sb.append((char) (isChoosable ? 1 : 0));
-            sb.append((char) (this.view.isPlayable() ? 1 : 0));
-            sb.append((char) (this.view.isCanAttack() ? 1 : 0));
-            sb.append((char) (this.view.isFaceDown() ? 1 : 0));
-            sb.append((char) this.view.getFrameStyle().ordinal());
-            if (this.view instanceof PermanentView) {
-                sb.append((char) (((PermanentView) this.view).hasSummoningSickness() ? 1 : 0));
-                sb.append((char) (((PermanentView) this.view).getDamage()));
-            }
-            sb.append(this.view.getName());
-            sb.append(this.view.getPower());
-            sb.append(this.view.getToughness());
-            sb.append(this.view.getLoyalty());
-            sb.append(this.view.getColor().toString());
-            sb.append(this.view.getExpansionSetCode());
-            for (CardType type : this.view.getCardTypes()) {
-                sb.append((char) type.ordinal());
-            }
-            for (SuperType s : this.view.getSuperTypes()) {
-                sb.append(s);
-            }
-            for (SubType s : this.view.getSubTypes()) {
-                sb.append(s);
-            }
-            for (String s : this.view.getManaCost()) {
-                sb.append(s);
-            }
-            for (String s : this.view.getRules()) {
-                sb.append(s);
-            }
-            if (this.view.getCounters() != null) {
-                for (CounterView v : this.view.getCounters()) {
-                    sb.append(v.getName()).append(v.getCount());
-                }
-            }
-            return sb.toString().hashCode();
+            int result = Long.hashCode(view.getContentFingerprint());
+            result = 31 * result + (artImage != null ? 1 : 0);
+            result = 31 * result + width;
+            result = 31 * result + height;
+            result = 31 * result + (isSelected ? 1 : 0);
+            result = 31 * result + (isChoosable ? 1 : 0);
+            result = 31 * result + (view.isPlayable() ? 1 : 0);
+            return 31 * result + (view.isCanAttack() ? 1 : 0);
         }
 
         @Override
@@ -213,6 +176,9 @@ public class CardPanelRenderImpl extends CardPanel {
             if (isSelected != other.isSelected) {
                 return false;
             }
+            if (view.getContentFingerprint() != other.view.getContentFingerprint()) {
+                return false;
+            }
             return cardViewEquals(view, other.view);
         }
     }
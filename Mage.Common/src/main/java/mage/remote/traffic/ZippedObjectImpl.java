@@ -50,5 +50,12 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         return null;
     }
 
+    /**
+     * @return size of the compressed data in bytes
+     */
+    public int getSize() {
+        return data == null ? 0 : data.length;
+    }
+
     private static final long serialVersionUID = 1L;
 }
@@ -1,8 +1,11 @@
 package mage.utils.timer;
 
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import mage.MageException;
 import mage.interfaces.Action;
 import org.apache.log4j.Logger;
@@ -10,16 +13,39 @@ import org.apache.log4j.Logger;
 /**
  * @author noxx
  */
-public class PriorityTimer extends TimerTask {
+public class PriorityTimer implements Runnable {
 
     private static final Logger logger = Logger.getLogger(PriorityTimer.class);
 
+    // all timers share one thread that only counts down, the timeout actions
+    // run on their own threads, they wait for the game lock and must not hold
+    // up the clocks of the other games
+    private static final ScheduledThreadPoolExecutor TIMER_EXECUTOR = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "Priority Timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final int TIMEOUT_THREADS = 4;
+    private static final AtomicInteger timeoutThreadNumber = new AtomicInteger();
+    private static final ThreadPoolExecutor TIMEOUT_EXECUTOR = new ThreadPoolExecutor(TIMEOUT_THREADS, TIMEOUT_THREADS,
+            60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "Priority Timer Timeout-" + timeoutThreadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        TIMER_EXECUTOR.setRemoveOnCancelPolicy(true);
+        TIMEOUT_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     private final long delay;
     private final Action taskOnTimeout;
 
     private int count;
     private Action taskOnTick;
     private States state = States.NONE;
+    private ScheduledFuture<?> future;
 
     enum States {
         NONE,
@@ -35,11 +61,26 @@ public class PriorityTimer extends TimerTask {
         this.taskOnTimeout = taskOnTimeout;
     }
 
-    public void init(UUID gameId) {
+    public void init() {
         state = States.INIT;
-        Timer timer = new Timer("Priority Timer-" + gameId.toString(), false);
         long delayMs = delay * (int) (1000L / delay);
-        timer.scheduleAtFixedRate(this, delayMs, delayMs);
+        future = TIMER_EXECUTOR.scheduleAtFixedRate(this, delayMs, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the timer from running, the timeout action isn't executed.
+     *
+     * @return false if the timer wasn't running
+     */
+    public boolean cancel() {
+        return future != null && future.cancel(false);
+    }
+
+    /**
+     * @return number of timers that are running (of all games)
+     */
+    public static int getRunningTimers() {
+        return TIMER_EXECUTOR.getQueue().size();
     }
 
     public void start() {
@@ -98,11 +139,13 @@ public class PriorityTimer extends TimerTask {
         //System.out.println("Count is: " + count);
         if (count <= 0) {
             cancel();
-            try {
-                taskOnTimeout.execute();
-            } catch (MageException e) {
-                throw new RuntimeException(e);
-            }
+            TIMEOUT_EXECUTOR.execute(() -> {
+                try {
+                    taskOnTimeout.execute();
+                } catch (MageException e) {
+                    logger.error("Timeout action of priority timer failed", e);
+                }
+            });
         }
     }
 
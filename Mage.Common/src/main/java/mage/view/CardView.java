@@ -129,6 +129,10 @@ public class CardView extends SimpleCardView {
     protected boolean canAttack;
     protected boolean inViewerOnly;
 
+    // fingerprint of the displayed characteristics, 0 = not calculated yet
+    // calculated on the client when rendered, not sent with the view
+    protected transient long contentFingerprint;
+
     public CardView(Card card) {
         this(card, null, false);
     }
@@ -661,6 +665,7 @@ public class CardView extends SimpleCardView {
 
     public void overrideRules(List<String> rules) {
         this.rules = rules;
+        this.contentFingerprint = 0;
     }
 
     public void setIsAbility(boolean isAbility) {
@@ -738,6 +743,7 @@ public class CardView extends SimpleCardView {
 
     public void setExpansionSetCode(String expansionSetCode) {
         this.expansionSetCode = expansionSetCode;
+        this.contentFingerprint = 0;
     }
 
     @Override
@@ -1023,4 +1029,64 @@ public class CardView extends SimpleCardView {
     public boolean inViewerOnly() {
         return inViewerOnly;
     }
+
+    /**
+     * Fingerprint of the characteristics the card is rendered from (name, P/T,
+     * types, mana cost, rules, counters...). Views with different
+     * fingerprints look different, so render caches can use it as key
+     * instead of comparing all the characteristics. The fingerprint is
+     * calculated once per view.
+     *
+     * @return fingerprint of the displayed characteristics
+     */
+    public long getContentFingerprint() {
+        if (contentFingerprint == 0) {
+            long fingerprint = calculateContentFingerprint();
+            contentFingerprint = fingerprint == 0 ? 1 : fingerprint;
+        }
+        return contentFingerprint;
+    }
+
+    protected long calculateContentFingerprint() {
+        long fingerprint = fingerprint(17, getClass().getName());
+        fingerprint = fingerprint(fingerprint, name);
+        fingerprint = fingerprint(fingerprint, power);
+        fingerprint = fingerprint(fingerprint, toughness);
+        fingerprint = fingerprint(fingerprint, loyalty);
+        fingerprint = fingerprint(fingerprint, color);
+        // enum hash codes differ between JVMs, so ordinals are used
+        for (CardType cardType : cardTypes) {
+            fingerprint = fingerprint(fingerprint, cardType.ordinal());
+        }
+        if (subTypes != null) {
+            for (SubType subType : subTypes) {
+                fingerprint = fingerprint(fingerprint, subType.ordinal());
+            }
+        }
+        for (SuperType superType : superTypes) {
+            fingerprint = fingerprint(fingerprint, superType.ordinal());
+        }
+        fingerprint = fingerprint(fingerprint, manaCost);
+        fingerprint = fingerprint(fingerprint, rules);
+        fingerprint = fingerprint(fingerprint, rarity == null ? -1 : rarity.ordinal());
+        fingerprint = fingerprint(fingerprint, cardNumber);
+        fingerprint = fingerprint(fingerprint, expansionSetCode);
+        fingerprint = fingerprint(fingerprint, frameStyle == null ? -1 : frameStyle.ordinal());
+        if (counters != null) {
+            for (CounterView counter : counters) {
+                fingerprint = fingerprint(fingerprint, counter.getName());
+                fingerprint = fingerprint(fingerprint, counter.getCount());
+            }
+        }
+        return fingerprint(fingerprint, faceDown ? 1 : 0);
+    }
+
+    protected static long fingerprint(long fingerprint, Object object) {
+        return fingerprint(fingerprint, object == null ? 0 : object.hashCode());
+    }
+
+    protected static long fingerprint(long fingerprint, int value) {
+        long mixed = (fingerprint ^ value) * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 29);
+    }
 }
@@ -214,4 +214,11 @@ public class PermanentView extends CardView {
     public boolean isManifested() {
         return manifested;
     }
+
+    @Override
+    protected long calculateContentFingerprint() {
+        long fingerprint = super.calculateContentFingerprint();
+        fingerprint = fingerprint(fingerprint, summoningSickness ? 1 : 0);
+        return fingerprint(fingerprint, damage);
+    }
 }
@@ -13,6 +13,7 @@ import org.apache.log4j.Logger;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.SubType;
 
 /**
@@ -23,9 +24,12 @@ import mage.constants.SubType;
  */
 public final class RateCard {
 
-    private static Map<String, Integer> ratings;
-    private static final Map<String, Integer> rated = new HashMap<>();
-    private static Integer min = Integer.MAX_VALUE, max = 0;
+    /**
+     * Scores of the cards without the allowed colors dependent mana cost part,
+     * shared by all concurrent drafts and deck generations.
+     */
+    private static final Map<String, Integer> baseScores = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> rated = new ConcurrentHashMap<>();
 
     /**
      * Rating that is given for new cards.
@@ -51,30 +55,37 @@ public final class RateCard {
      * @return
      */
     public static int rateCard(Card card, List<ColoredManaSymbol> allowedColors) {
-        if (allowedColors == null && rated.containsKey(card.getName())) {
-            int rate = rated.get(card.getName());
-//            log.info(card.getName() + " rate: " + rate);
-            return rate;
-        }
-        int type;
-        if (card.isPlaneswalker()) {
-            type = 15;
-        } else if (card.isCreature()) {
-            type = 10;
-        } else if (card.getSubtype(null).contains(SubType.EQUIPMENT)) {
-            type = 8;
-        } else if (card.getSubtype(null).contains(SubType.AURA)) {
-            type = 5;
-        } else if (card.isInstant()) {
-            type = 7;
-        } else {
-            type = 6;
+        if (allowedColors == null) {
+            return rated.computeIfAbsent(card.getName(), name -> getBaseScore(card) + getManaCostScore(card, null));
         }
-        int score = 10 * getCardRating(card) + 2 * type + getManaCostScore(card, allowedColors)
-                + 40 * isRemoval(card);
-        if (allowedColors == null)
-            rated.put(card.getName(), score);
-        return score;
+        return getBaseScore(card) + getManaCostScore(card, allowedColors);
+    }
+
+    /**
+     * Get the part of the score that does not depend on the allowed colors.
+     * It's only calculated once for each card name.
+     *
+     * @param card
+     * @return
+     */
+    private static int getBaseScore(Card card) {
+        return baseScores.computeIfAbsent(card.getName(), name -> {
+            int type;
+            if (card.isPlaneswalker()) {
+                type = 15;
+            } else if (card.isCreature()) {
+                type = 10;
+            } else if (card.getSubtype(null).contains(SubType.EQUIPMENT)) {
+                type = 8;
+            } else if (card.getSubtype(null).contains(SubType.AURA)) {
+                type = 5;
+            } else if (card.isInstant()) {
+                type = 7;
+            } else {
+                type = 6;
+            }
+            return 10 * getCardRating(card) + 2 * type + 40 * isRemoval(card);
+        });
     }
 
     private static int isRemoval(Card card) {
@@ -120,50 +131,70 @@ public final class RateCard {
      * @return Rating number from [1;10].
      */
     public static int getCardRating(Card card) {
-        if (ratings == null) {
-            readRatings();
-        }
-        if (ratings.containsKey(card.getName())) {
-            int r = ratings.get(card.getName());
-            // normalize to [1..10]
-            float f = 10.0f * (r - min) / (max - min);
-            return (int) Math.round(f);
-        }
-        return DEFAULT_NOT_RATED_CARD_RATING;
+        return RatingsHolder.RATINGS.getRating(card.getName());
     }
 
     /**
-     * Reads ratings from resources.
+     * Lazy loaded on first use, the class loader guarantees it's read only
+     * once without locking the callers.
      */
-    private synchronized static void readRatings() {
-        if (ratings == null) {
-            ratings = new HashMap<>();
-            readFromFile("/m13.csv");
-        }
+    private static final class RatingsHolder {
+
+        private static final Ratings RATINGS = Ratings.readFromFile("/m13.csv");
     }
-    
-    private static void readFromFile(String path) {
-        try {
-            InputStream is = RateCard.class.getResourceAsStream(path);
-            Scanner scanner = new Scanner(is);
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] s = line.split(":");
-                if (s.length == 2) {
-                    Integer rating = Integer.parseInt(s[1].trim());
-                    String name = s[0].trim();
-                    if (rating > max) {
-                        max = rating;
-                    }
-                    if (rating < min) {
-                        min = rating;
+
+    /**
+     * Immutable table of the ratings read from resources.
+     */
+    private static final class Ratings {
+
+        private final Map<String, Integer> ratings;
+        private final int min;
+        private final int max;
+
+        private Ratings(Map<String, Integer> ratings, int min, int max) {
+            this.ratings = Collections.unmodifiableMap(ratings);
+            this.min = min;
+            this.max = max;
+        }
+
+        private int getRating(String cardName) {
+            Integer r = ratings.get(cardName);
+            if (r != null) {
+                // normalize to [1..10]
+                float f = 10.0f * (r - min) / (max - min);
+                return (int) Math.round(f);
+            }
+            return DEFAULT_NOT_RATED_CARD_RATING;
+        }
+
+        private static Ratings readFromFile(String path) {
+            Map<String, Integer> ratings = new HashMap<>();
+            int min = Integer.MAX_VALUE;
+            int max = 0;
+            try {
+                InputStream is = RateCard.class.getResourceAsStream(path);
+                Scanner scanner = new Scanner(is);
+                while (scanner.hasNextLine()) {
+                    String line = scanner.nextLine();
+                    String[] s = line.split(":");
+                    if (s.length == 2) {
+                        Integer rating = Integer.parseInt(s[1].trim());
+                        String name = s[0].trim();
+                        if (rating > max) {
+                            max = rating;
+                        }
+                        if (rating < min) {
+                            min = rating;
+                        }
+                        ratings.put(name, rating);
                     }
-                    ratings.put(name, rating);
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
+                ratings.clear(); // no rating available on exception
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            ratings.clear(); // no rating available on exception
+            return new Ratings(ratings, min, max);
         }
     }
 
@@ -50,6 +50,7 @@ import mage.server.tournament.TournamentFactory;
 import mage.server.util.ConfigSettings;
 import mage.server.util.PluginClassLoader;
 import mage.server.util.ServerMessagesUtil;
+import mage.server.util.ServerMetrics;
 import mage.server.util.SystemUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
@@ -76,6 +77,7 @@ public final class Main {
     private static final String testModeArg = "-testMode=";
     private static final String fastDBModeArg = "-fastDbMode=";
     private static final String adminPasswordArg = "-adminPassword=";
+    private static final String metricsPortArg = "-metricsPort=";
 
     private static final File pluginFolder = new File("plugins");
     private static final File extensionFolder = new File("extensions");
@@ -84,6 +86,7 @@ public final class Main {
     public static TransporterServer server;
     protected static boolean testMode;
     protected static boolean fastDbMode;
+    protected static int metricsPort;
 
     /**
      * @param args the command line arguments
@@ -102,6 +105,8 @@ public final class Main {
                 adminPassword = SystemUtil.sanitize(adminPassword);
             } else if (arg.startsWith(fastDBModeArg)) {
                 fastDbMode = Boolean.valueOf(arg.replace(fastDBModeArg, ""));
+            } else if (arg.startsWith(metricsPortArg)) {
+                metricsPort = Integer.parseInt(arg.replace(metricsPortArg, ""));
             }
         }
 
@@ -230,6 +235,10 @@ public final class Main {
                     logger.info("MAGE server running in test mode");
                 }
                 initStatistics();
+                ServerMetrics.instance.register();
+                if (metricsPort > 0) {
+                    ServerMetrics.instance.startHttpEndpoint(metricsPort);
+                }
             } else {
                 logger.fatal("Unable to start MAGE server - another server is already started");
             }
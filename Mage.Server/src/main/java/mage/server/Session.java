@@ -38,12 +38,18 @@ import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.net.UserData;
 import mage.players.net.UserGroup;
+import mage.remote.traffic.ZippedObjectImpl;
 import static mage.server.DisconnectReason.LostConnection;
 import mage.server.game.GamesRoom;
 import mage.server.game.GamesRoomManager;
 import mage.server.util.ConfigSettings;
+import mage.server.util.ServerMetrics;
 import mage.server.util.SystemUtil;
+import mage.server.util.ThreadExecutor;
 import mage.util.RandomUtil;
+import mage.utils.CompressUtil;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
 import org.jboss.remoting.callback.Callback;
@@ -69,6 +75,17 @@ public class Session {
 
     private final ReentrantLock lock;
 
+    // a client that is that far behind won't catch up anymore, it's disconnected
+    private static final int MAX_CALLBACK_QUEUE_SIZE = 1000;
+
+    // callbacks are sent by a callback worker, so the calling (game) threads don't wait for slow clients
+    private final Deque<ClientCallback> callbackQueue = new ArrayDeque<>();
+    private boolean callbackWorkerActive;
+    private volatile long callbacksSent;
+    private long callbacksDropped;
+    private int maxCallbackQueueSize;
+    private volatile long compressedBytesSent;
+
     public Session(String sessionId, InvokerCallbackHandler callbackHandler) {
         this.sessionId = sessionId;
         this.callbackHandler = (AsynchInvokerCallbackHandler) callbackHandler;
@@ -370,9 +387,73 @@ public class Session {
     }
 
     public void fireCallback(final ClientCallback call) {
+        boolean queueFull = false;
+        synchronized (callbackQueue) {
+            if (call.getMethod() == ClientCallbackMethod.GAME_UPDATE) {
+                // a game update that's still waiting is outdated by the new one
+                for (Iterator<ClientCallback> iterator = callbackQueue.iterator(); iterator.hasNext();) {
+                    ClientCallback queuedCall = iterator.next();
+                    if (queuedCall.getMethod() == ClientCallbackMethod.GAME_UPDATE
+                            && Objects.equals(queuedCall.getObjectId(), call.getObjectId())) {
+                        iterator.remove();
+                        callbacksDropped++;
+                        ServerMetrics.instance.callbacksDropped(1);
+                        break;
+                    }
+                }
+            }
+            if (callbackQueue.size() >= MAX_CALLBACK_QUEUE_SIZE) {
+                callbacksDropped += callbackQueue.size() + 1;
+                ServerMetrics.instance.callbacksDropped(callbackQueue.size() + 1);
+                callbackQueue.clear();
+                queueFull = true;
+            } else {
+                callbackQueue.add(call);
+                maxCallbackQueueSize = Math.max(maxCallbackQueueSize, callbackQueue.size());
+                if (!callbackWorkerActive) {
+                    callbackWorkerActive = true;
+                    ThreadExecutor.instance.getCallbackExecutor().execute(this::sendCallbacks);
+                }
+            }
+        }
+        if (queueFull) {
+            logger.warn("SESSION CALLBACK QUEUE FULL - sessionId " + sessionId + " userId " + userId + " - disconnecting");
+            SessionManager.instance.disconnect(sessionId, LostConnection);
+        }
+    }
+
+    private void sendCallbacks() {
+        while (true) {
+            ClientCallback call;
+            synchronized (callbackQueue) {
+                call = callbackQueue.poll();
+                if (call == null) {
+                    callbackWorkerActive = false;
+                    return;
+                }
+            }
+            if (!sendCallback(call)) {
+                synchronized (callbackQueue) {
+                    callbacksDropped += callbackQueue.size();
+                    ServerMetrics.instance.callbacksDropped(callbackQueue.size());
+                    callbackQueue.clear();
+                    callbackWorkerActive = false;
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean sendCallback(final ClientCallback call) {
         try {
-            call.setMessageId(messageId++);
-            callbackHandler.handleCallbackOneway(new Callback(call));
+            // the same callback can be queued to several sessions (chat broadcasts),
+            // so each session sends its own copy with its own message id
+            ClientCallback sessionCall = new ClientCallback(call.getMethod(), call.getObjectId(), compressView(call.getData()));
+            sessionCall.setMessageId(messageId++);
+            callbackHandler.handleCallbackOneway(new Callback(sessionCall));
+            callbacksSent++;
+            ServerMetrics.instance.callbackSent();
+            return true;
         } catch (HandleCallbackException ex) {
             UserManager.instance.getUser(userId).ifPresent(user -> {
                 user.setUserState(User.UserState.Disconnected);
@@ -381,6 +462,64 @@ public class Session {
                 SessionManager.instance.disconnect(sessionId, LostConnection);
             });
         }
+        return false;
+    }
+
+    /**
+     * Game views are most of the callback traffic, so they are sent gzipped
+     * (the client decompresses the data of every callback). Other data is sent
+     * as is.
+     */
+    private Object compressView(Object data) {
+        if (data instanceof GameView || data instanceof GameClientMessage) {
+            Object compressed = CompressUtil.compress(data);
+            if (compressed instanceof ZippedObjectImpl) {
+                int size = ((ZippedObjectImpl) compressed).getSize();
+                compressedBytesSent += size;
+                ServerMetrics.instance.compressedBytesSent(size);
+                return compressed;
+            }
+        }
+        return data;
+    }
+
+    public int getCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return callbackQueue.size();
+        }
+    }
+
+    public int getMaxCallbackQueueSize() {
+        synchronized (callbackQueue) {
+            return maxCallbackQueueSize;
+        }
+    }
+
+    public long getCallbacksSent() {
+        return callbacksSent;
+    }
+
+    /**
+     * @return number of callbacks that were not sent because they were
+     * outdated by a newer game update or the client was disconnected
+     */
+    public long getCallbacksDropped() {
+        synchronized (callbackQueue) {
+            return callbacksDropped;
+        }
+    }
+
+    /**
+     * @return size of the compressed game views sent to the client
+     */
+    public long getCompressedBytesSent() {
+        return compressedBytesSent;
+    }
+
+    public String getCallbackInfo() {
+        return "sent " + getCallbacksSent() + ", dropped " + getCallbacksDropped()
+                + ", queue " + getCallbackQueueSize() + " (max " + getMaxCallbackQueueSize() + ')'
+                + ", game views " + getCompressedBytesSent() / 1024 + " KB";
     }
 
     public UUID getUserId() {
@@ -54,7 +54,9 @@ import mage.players.PlayerType;
 import mage.server.game.GameController;
 import mage.server.game.GameManager;
 import mage.server.game.GamesRoomManager;
+import mage.server.util.ServerMetrics;
 import mage.server.util.ThreadExecutor;
+import mage.utils.timer.PriorityTimer;
 import org.apache.log4j.Logger;
 
 /**
@@ -406,17 +408,20 @@ public enum TableManager {
         for (User user : users) {
             Optional<Session> session = SessionManager.instance.getSession(user.getSessionId());
             String sessionState = "N";
+            String callbackInfo = "";
             if (session.isPresent()) {
                 if (session.get().isLocked()) {
                     sessionState = "L";
                 } else {
                     sessionState = "+";
                 }
+                callbackInfo = " callbacks: " + session.get().getCallbackInfo();
             }
             logger.debug(user.getId()
                     + " | " + formatter.format(user.getConnectionTime())
                     + " | " + sessionState
-                    + " | " + user.getName() + " (" + user.getUserState().toString() + " - " + user.getPingInfo() + ')');
+                    + " | " + user.getName() + " (" + user.getUserState().toString() + " - " + user.getPingInfo() + ')'
+                    + callbackInfo);
         }
         List<ChatSession> chatSessions = ChatManager.instance.getChatSessions();
         logger.debug("------- ChatSessions: " + chatSessions.size() + " ----------------------------------");
@@ -425,6 +430,11 @@ public enum TableManager {
         }
         logger.debug("------- Games: " + GameManager.instance.getNumberActiveGames() + " --------------------------------------------");
         logger.debug(" Active Game Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor()));
+        logger.debug(" Active Callback Worker: " + ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getCallbackExecutor()));
+        logger.debug(" Running Priority Timers: " + PriorityTimer.getRunningTimers()
+                + " | Scheduled Timeouts: " + ThreadExecutor.instance.getScheduledTasks(ThreadExecutor.instance.getTimeoutExecutor())
+                + " | Scheduled Idle Timeouts: " + ThreadExecutor.instance.getScheduledTasks(ThreadExecutor.instance.getTimeoutIdleExecutor()));
+        logger.debug(" Metrics: " + ServerMetrics.instance.getSummary());
         for (Entry<UUID, GameController> entry : GameManager.instance.getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
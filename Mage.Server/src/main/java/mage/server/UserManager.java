@@ -29,6 +29,7 @@ package mage.server;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -62,6 +63,10 @@ public enum UserManager {
 
     private static final ExecutorService USER_EXECUTOR = ThreadExecutor.instance.getCallExecutor();
 
+    // user stats are written behind by a single thread, finished tables never wait for the DB
+    private final ExecutorService userStatsExecutor = ThreadExecutor.instance.getUserStatsExecutor();
+    private final AtomicBoolean userStatsUpdatePending = new AtomicBoolean();
+
     UserManager() {
         expireExecutor.scheduleAtFixedRate(this::checkExpired, 60, 60, TimeUnit.SECONDS);
 
@@ -301,9 +306,18 @@ public enum UserManager {
     }
 
     public void updateUserHistory() {
-        USER_EXECUTOR.execute(() -> {
-            for (String updatedUser : UserStatsRepository.instance.updateUserStats()) {
-                getUserByName(updatedUser).ifPresent(User::resetUserStats);
+        // an update that is still waiting also handles the tables finished since it was queued
+        if (!userStatsUpdatePending.compareAndSet(false, true)) {
+            return;
+        }
+        userStatsExecutor.execute(() -> {
+            userStatsUpdatePending.set(false);
+            try {
+                for (String updatedUser : UserStatsRepository.instance.updateUserStats()) {
+                    getUserByName(updatedUser).ifPresent(User::resetUserStats);
+                }
+            } catch (Exception ex) {
+                handleException(ex);
             }
         });
     }
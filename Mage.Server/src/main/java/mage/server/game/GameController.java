@@ -77,7 +77,8 @@ public class GameController implements GameCallback {
     private static final ExecutorService gameExecutor = ThreadExecutor.instance.getGameExecutor();
     private static final Logger logger = Logger.getLogger(GameController.class);
 
-    protected final ScheduledExecutorService joinWaitingExecutor = Executors.newSingleThreadScheduledExecutor();
+    // informs about players that didn't join yet, runs on the shared timeout executor until all players joined
+    private volatile ScheduledFuture<?> joinWaitingFuture;
 
     private ScheduledFuture<?> futureTimeout;
     protected static final ScheduledExecutorService timeoutIdleExecutor = ThreadExecutor.instance.getTimeoutIdleExecutor();
@@ -121,6 +122,7 @@ public class GameController implements GameCallback {
 
     public void cleanUp() {
         cancelTimeout();
+        cancelJoinWaiting();
         for (GameSessionPlayer gameSessionPlayer : getGameSessions()) {
             gameSessionPlayer.cleanUp();
         }
@@ -245,7 +247,7 @@ public class GameController implements GameCallback {
                     }
                 }
         );
-        joinWaitingExecutor.scheduleAtFixedRate(() -> {
+        joinWaitingFuture = ThreadExecutor.instance.getTimeoutExecutor().scheduleAtFixedRate(() -> {
             try {
                 sendInfoAboutPlayersNotJoinedYet();
             } catch (Exception ex) {
@@ -277,7 +279,7 @@ public class GameController implements GameCallback {
         };
 
         PriorityTimer timer = new PriorityTimer(count, delayMs, executeOnNoTimeLeft);
-        timer.init(game.getId());
+        timer.init();
         timers.put(playerId, timer);
         return timer;
     }
@@ -385,11 +387,18 @@ public class GameController implements GameCallback {
 
     private void checkStart() {
         if (allJoined()) {
-            joinWaitingExecutor.shutdownNow();
+            cancelJoinWaiting();
             ThreadExecutor.instance.getCallExecutor().execute(this::startGame);
         }
     }
 
+    private void cancelJoinWaiting() {
+        ScheduledFuture<?> future = joinWaitingFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
     private boolean allJoined() {
         for (Player player : game.getPlayers().values()) {
             if (!player.hasLeft()) {
@@ -42,6 +42,7 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.server.util.ThreadExecutor;
 import mage.view.*;
 import org.apache.log4j.Logger;
@@ -210,6 +211,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     @Override
     public GameView getGameView() {
+        long startTime = System.nanoTime();
         Player player = game.getPlayer(playerId);
         GameView gameView = new GameView(game.getState(), game, playerId, null);
         gameView.setHand(new CardsView(game, player.getHand().getCards(game)));
@@ -227,6 +229,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
         }
         gameView.setLookedAt(list);
 
+        ServerMetrics.instance.gameViewBuilt(startTime);
         return gameView;
     }
 
@@ -35,6 +35,7 @@ import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.UserManager;
+import mage.server.util.ServerMetrics;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
@@ -124,8 +125,10 @@ public class GameSessionWatcher {
     }
 
     public GameView getGameView() {
+        long startTime = System.nanoTime();
         GameView gameView = new GameView(game.getState(), game, null, userId);
         processWatchedHands(userId, gameView);
+        ServerMetrics.instance.gameViewBuilt(startTime);
         return gameView;
 
     }
@@ -16,8 +16,10 @@ import org.apache.log4j.Logger;
 import java.io.File;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public enum UserStatsRepository {
@@ -107,12 +109,15 @@ public enum UserStatsRepository {
 
     // updateUserStats reads tables finished after the last DB update and reflects it to the DB.
     // It returns the list of user names that are upated.
+    // The stats are aggregated in memory and every changed user is written once in a single transaction.
     public List<String> updateUserStats() {
-        Set<String> updatedUsers = new HashSet<>();
         // Lock the DB so that no other updateUserStats runs at the same time.
         synchronized(this) {
             long latestEndTimeMs = this.getLatestEndTimeMs();
             List<TableRecord> records = TableRecordRepository.instance.getAfter(latestEndTimeMs);
+            // user name -> current stats of the user (null if the user has no stats yet)
+            Map<String, UserStats> batch = new LinkedHashMap<>();
+            Set<String> updatedUsers = new LinkedHashSet<>();
             for (TableRecord record : records) {
                 ResultProtos.TableProto table = record.getProto();
                 if (table.getControllerName().equals("System")) {
@@ -123,7 +128,7 @@ public enum UserStatsRepository {
                 if (table.hasMatch()) {
                     ResultProtos.MatchProto match = table.getMatch();
                     for (ResultProtos.MatchPlayerProto player : match.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
+                        UserStats userStats = this.getUser(player.getName(), batch);
                         ResultProtos.UserStatsProto proto =
                             userStats != null
                                 ? userStats.getProto()
@@ -141,18 +146,14 @@ public enum UserStatsRepository {
                                 builder.setMatchesQuit(proto.getMatchesQuit() + 1);
                                 break;
                         }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
+                        batch.put(player.getName(), new UserStats(builder.build(), table.getEndTimeMs()));
                         updatedUsers.add(player.getName());
                     }
-                    updateRating(match, table.getEndTimeMs());
+                    updateRating(match, table.getEndTimeMs(), batch);
                 } else if (table.hasTourney()) {
                     ResultProtos.TourneyProto tourney = table.getTourney();
                     for (ResultProtos.TourneyPlayerProto player : tourney.getPlayersList()) {
-                        UserStats userStats = this.getUser(player.getName());
+                        UserStats userStats = this.getUser(player.getName(), batch);
                         ResultProtos.UserStatsProto proto = userStats != null ? userStats.getProto()
                                 : ResultProtos.UserStatsProto.newBuilder().setName(player.getName()).build();
                         ResultProtos.UserStatsProto.Builder builder = ResultProtos.UserStatsProto.newBuilder(proto)
@@ -168,26 +169,60 @@ public enum UserStatsRepository {
                                 builder.setTourneysQuitDuringConstruction(proto.getTourneysQuitDuringConstruction() + 1);
                                 break;
                         }
-                        if (userStats == null) {
-                            this.add(new UserStats(builder.build(), table.getEndTimeMs()));
-                        } else {
-                            this.update(new UserStats(builder.build(), table.getEndTimeMs()));
-                        }
+                        batch.put(player.getName(), new UserStats(builder.build(), table.getEndTimeMs()));
                         updatedUsers.add(player.getName());
                     }
 
                     for (ResultProtos.TourneyRoundProto round : tourney.getRoundsList()) {
                         for (ResultProtos.MatchProto match : round.getMatchesList()) {
-                            updateRating(match, table.getEndTimeMs());
+                            updateRating(match, table.getEndTimeMs(), batch);
                         }
                     }
                 }
             }
+            List<UserStats> changed = new ArrayList<>();
+            for (UserStats userStats : batch.values()) {
+                if (userStats != null) {
+                    changed.add(userStats);
+                }
+            }
+            if (!saveAll(changed)) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(updatedUsers);
+        }
+    }
+
+    /**
+     * Returns the stats of the user from the batch, reading them from the DB
+     * the first time the user is needed.
+     */
+    private UserStats getUser(String userName, Map<String, UserStats> batch) {
+        if (!batch.containsKey(userName)) {
+            batch.put(userName, this.getUser(userName));
+        }
+        return batch.get(userName);
+    }
+
+    private boolean saveAll(final List<UserStats> userStatsList) {
+        if (userStatsList.isEmpty()) {
+            return true;
+        }
+        try {
+            dao.callBatchTasks(() -> {
+                for (UserStats userStats : userStatsList) {
+                    dao.createOrUpdate(userStats);
+                }
+                return null;
+            });
+            return true;
+        } catch (Exception ex) {
+            Logger.getLogger(UserStatsRepository.class).error("Error saving user_stats to DB - ", ex);
         }
-        return new ArrayList<>(updatedUsers);
+        return false;
     }
 
-    private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs) {
+    private void updateRating(ResultProtos.MatchProto match, long tableEndTimeMs, Map<String, UserStats> batch) {
         long matchEndTimeMs;
         if (match.hasEndTimeMs()) {
             matchEndTimeMs = match.getEndTimeMs();
@@ -234,9 +269,9 @@ public enum UserStatsRepository {
         }
 
         // get players stats
-        UserStats player1Stats = getOrCreateUserStats(player1.getName(), tableEndTimeMs);
+        UserStats player1Stats = getOrCreateUserStats(player1.getName(), tableEndTimeMs, batch);
         ResultProtos.UserStatsProto player1StatsProto = player1Stats.getProto();
-        UserStats player2Stats = getOrCreateUserStats(player2.getName(), tableEndTimeMs);
+        UserStats player2Stats = getOrCreateUserStats(player2.getName(), tableEndTimeMs, batch);
         ResultProtos.UserStatsProto player2StatsProto = player2Stats.getProto();
 
         ResultProtos.UserStatsProto.Builder player1StatsBuilder =
@@ -310,8 +345,8 @@ public enum UserStatsRepository {
         }
 
 
-        this.update(new UserStats(player1StatsBuilder.build(), player1Stats.getEndTimeMs()));
-        this.update(new UserStats(player2StatsBuilder.build(), player2Stats.getEndTimeMs()));
+        batch.put(player1.getName(), new UserStats(player1StatsBuilder.build(), player1Stats.getEndTimeMs()));
+        batch.put(player2.getName(), new UserStats(player2StatsBuilder.build(), player2Stats.getEndTimeMs()));
     }
 
     private void updateRating(
@@ -356,12 +391,12 @@ public enum UserStatsRepository {
                 .setLastGameTimeMs(tableEndTimeMs);
     }
 
-    private UserStats getOrCreateUserStats(String playerName, long endTimeMs) {
-        UserStats userStats = this.getUser(playerName);
+    private UserStats getOrCreateUserStats(String playerName, long endTimeMs, Map<String, UserStats> batch) {
+        UserStats userStats = this.getUser(playerName, batch);
         if (userStats == null) {
             ResultProtos.UserStatsProto userStatsProto = ResultProtos.UserStatsProto.newBuilder().setName(playerName).build();
             userStats = new UserStats(userStatsProto, endTimeMs);
-            this.add(userStats);
+            batch.put(playerName, userStats);
         }
         return userStats;
     }
@@ -0,0 +1,307 @@
+package mage.server.util;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import mage.server.UserManager;
+import mage.server.game.GameManager;
+import mage.util.metrics.EngineMetrics;
+import mage.util.metrics.LatencyHistogram;
+import mage.utils.timer.PriorityTimer;
+import org.apache.log4j.Logger;
+
+/**
+ * Server wide counters, gauges and latency distributions. The counters are
+ * updated from the callback and game threads, so they only use adders and are
+ * cheap enough to be updated on every callback or game view. The gauges are
+ * read from the existing managers when asked for, the engine timings (game
+ * loop, AI decisions, card database) are read from {@link EngineMetrics}.
+ *
+ * The metrics can be read over JMX and, if started with -metricsPort=, as text
+ * from http://localhost:port/metrics
+ */
+public enum ServerMetrics implements ServerMetricsMXBean {
+
+    instance;
+
+    public static final String OBJECT_NAME = "mage.server:type=ServerMetrics";
+
+    private static final Logger logger = Logger.getLogger(ServerMetrics.class);
+
+    private final LongAdder callbacksSent = new LongAdder();
+    private final LongAdder callbacksDropped = new LongAdder();
+    private final LongAdder compressedBytesSent = new LongAdder();
+    private final LatencyHistogram gameViewBuildTime = new LatencyHistogram();
+
+    // events per second are calculated between two reads
+    private long lastEventsFired;
+    private long lastEventsReadNanos = System.nanoTime();
+
+    private HttpServer httpServer;
+
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (Exception ex) {
+            logger.warn("Could not register server metrics - " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Serves the metrics as plain text on /metrics. Only bound to the loopback
+     * address, so it has to be tunneled or proxied to be read from outside.
+     *
+     * @param port
+     */
+    public synchronized void startHttpEndpoint(int port) {
+        if (httpServer != null) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                byte[] response = getText().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            });
+            httpServer.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "METRICS HTTP");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            httpServer.start();
+            logger.info("Server metrics available on http://localhost:" + port + "/metrics");
+        } catch (IOException ex) {
+            httpServer = null;
+            logger.warn("Could not start server metrics endpoint on port " + port + " - " + ex.getMessage());
+        }
+    }
+
+    public void callbackSent() {
+        callbacksSent.increment();
+    }
+
+    public void callbacksDropped(int count) {
+        callbacksDropped.add(count);
+    }
+
+    public void compressedBytesSent(long bytes) {
+        compressedBytesSent.add(bytes);
+    }
+
+    /**
+     * @param startNanos {@link System#nanoTime()} taken before the view was
+     * built
+     */
+    public void gameViewBuilt(long startNanos) {
+        gameViewBuildTime.recordSince(startNanos);
+    }
+
+    @Override
+    public int getActiveGames() {
+        return GameManager.instance.getNumberActiveGames();
+    }
+
+    @Override
+    public int getConnectedUsers() {
+        return UserManager.instance.getUsers().size();
+    }
+
+    @Override
+    public int getActiveGameThreads() {
+        return ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getGameExecutor());
+    }
+
+    @Override
+    public int getQueuedGames() {
+        return ThreadExecutor.instance.getQueuedTasks(ThreadExecutor.instance.getGameExecutor());
+    }
+
+    @Override
+    public int getActiveCallbackThreads() {
+        return ThreadExecutor.instance.getActiveThreads(ThreadExecutor.instance.getCallbackExecutor());
+    }
+
+    @Override
+    public int getRunningPriorityTimers() {
+        return PriorityTimer.getRunningTimers();
+    }
+
+    @Override
+    public int getScheduledTimeouts() {
+        return ThreadExecutor.instance.getScheduledTasks(ThreadExecutor.instance.getTimeoutExecutor());
+    }
+
+    @Override
+    public int getScheduledIdleTimeouts() {
+        return ThreadExecutor.instance.getScheduledTasks(ThreadExecutor.instance.getTimeoutIdleExecutor());
+    }
+
+    @Override
+    public long getCallbacksSent() {
+        return callbacksSent.sum();
+    }
+
+    @Override
+    public long getCallbacksDropped() {
+        return callbacksDropped.sum();
+    }
+
+    @Override
+    public long getCompressedBytesSent() {
+        return compressedBytesSent.sum();
+    }
+
+    @Override
+    public long getGameViewsBuilt() {
+        return gameViewBuildTime.getCount();
+    }
+
+    @Override
+    public String getGameViewBuildTime() {
+        return gameViewBuildTime.toString();
+    }
+
+    @Override
+    public long getGameViewBuildTimeP99Micros() {
+        return gameViewBuildTime.getPercentileMicros(99);
+    }
+
+    @Override
+    public String getCheckStateAndTriggeredTime() {
+        return EngineMetrics.instance.getCheckStateAndTriggered().toString();
+    }
+
+    @Override
+    public long getCheckStateAndTriggeredTimeP99Micros() {
+        return EngineMetrics.instance.getCheckStateAndTriggered().getPercentileMicros(99);
+    }
+
+    @Override
+    public String getApplyEffectsTime() {
+        return EngineMetrics.instance.getApplyEffects().toString();
+    }
+
+    @Override
+    public long getApplyEffectsTimeP99Micros() {
+        return EngineMetrics.instance.getApplyEffects().getPercentileMicros(99);
+    }
+
+    @Override
+    public String getComputerDecisionTime() {
+        return EngineMetrics.instance.getComputerDecision().toString();
+    }
+
+    @Override
+    public long getComputerDecisionTimeP99Micros() {
+        return EngineMetrics.instance.getComputerDecision().getPercentileMicros(99);
+    }
+
+    @Override
+    public String getCardDbQueryTime() {
+        return EngineMetrics.instance.getCardDbQuery().toString();
+    }
+
+    @Override
+    public long getCardDbQueryTimeP99Micros() {
+        return EngineMetrics.instance.getCardDbQuery().getPercentileMicros(99);
+    }
+
+    @Override
+    public long getEventsFired() {
+        return EngineMetrics.instance.getEventsFired();
+    }
+
+    @Override
+    public synchronized long getEventsPerSecond() {
+        long eventsFired = EngineMetrics.instance.getEventsFired();
+        long now = System.nanoTime();
+        long elapsedNanos = now - lastEventsReadNanos;
+        long rate = elapsedNanos <= 0 ? 0 : (eventsFired - lastEventsFired) * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        lastEventsFired = eventsFired;
+        lastEventsReadNanos = now;
+        return Math.max(rate, 0);
+    }
+
+    @Override
+    public String getSummary() {
+        return "games " + getActiveGames() + " (workers " + getActiveGameThreads() + ", queued " + getQueuedGames() + ')'
+                + " | users " + getConnectedUsers()
+                + " | callbacks sent " + getCallbacksSent() + ", dropped " + getCallbacksDropped()
+                + ", game views " + getCompressedBytesSent() / 1024 + " KB (workers " + getActiveCallbackThreads() + ')'
+                + " | game view build " + getGameViewBuildTime()
+                + " | check state " + getCheckStateAndTriggeredTime()
+                + " | apply effects " + getApplyEffectsTime()
+                + " | events " + getEventsFired()
+                + " | priority timers " + getRunningPriorityTimers()
+                + ", timeouts " + getScheduledTimeouts() + ", idle timeouts " + getScheduledIdleTimeouts();
+    }
+
+    /**
+     * @return all metrics, one name value pair per line
+     */
+    public String getText() {
+        StringBuilder sb = new StringBuilder();
+        appendLine(sb, "active_games", getActiveGames());
+        appendLine(sb, "queued_games", getQueuedGames());
+        appendLine(sb, "active_game_threads", getActiveGameThreads());
+        appendLine(sb, "connected_users", getConnectedUsers());
+        appendLine(sb, "active_callback_threads", getActiveCallbackThreads());
+        appendLine(sb, "callbacks_sent", getCallbacksSent());
+        appendLine(sb, "callbacks_dropped", getCallbacksDropped());
+        appendLine(sb, "compressed_bytes_sent", getCompressedBytesSent());
+        appendLine(sb, "running_priority_timers", getRunningPriorityTimers());
+        appendLine(sb, "scheduled_timeouts", getScheduledTimeouts());
+        appendLine(sb, "scheduled_idle_timeouts", getScheduledIdleTimeouts());
+        appendLine(sb, "events_fired", getEventsFired());
+        appendLine(sb, "events_per_second", getEventsPerSecond());
+        appendHistogram(sb, "game_view_build", gameViewBuildTime);
+        appendHistogram(sb, "check_state_and_triggered", EngineMetrics.instance.getCheckStateAndTriggered());
+        appendHistogram(sb, "apply_effects", EngineMetrics.instance.getApplyEffects());
+        appendHistogram(sb, "computer_decision", EngineMetrics.instance.getComputerDecision());
+        appendHistogram(sb, "card_db_query", EngineMetrics.instance.getCardDbQuery());
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, String name, LatencyHistogram histogram) {
+        appendLine(sb, name + "_count", histogram.getCount());
+        appendLine(sb, name + "_avg_us", histogram.getAverageMicros());
+        appendLine(sb, name + "_p50_us", histogram.getPercentileMicros(50));
+        appendLine(sb, name + "_p90_us", histogram.getPercentileMicros(90));
+        appendLine(sb, name + "_p99_us", histogram.getPercentileMicros(99));
+        appendLine(sb, name + "_max_us", histogram.getMaxMicros());
+    }
+
+    private static void appendLine(StringBuilder sb, String name, long value) {
+        sb.append("xmage_").append(name).append(' ').append(value).append('\n');
+    }
+
+    @Override
+    public void resetCounters() {
+        callbacksSent.reset();
+        callbacksDropped.reset();
+        compressedBytesSent.reset();
+        gameViewBuildTime.reset();
+        EngineMetrics.instance.reset();
+        synchronized (this) {
+            lastEventsFired = 0;
+            lastEventsReadNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package mage.server.util;
+
+/**
+ * Management interface of {@link ServerMetrics}, registered with the platform
+ * MBean server as {@value ServerMetrics#OBJECT_NAME} so it can be read with
+ * jconsole, VisualVM or any other JMX client.
+ */
+public interface ServerMetricsMXBean {
+
+    int getActiveGames();
+
+    int getConnectedUsers();
+
+    int getActiveGameThreads();
+
+    int getQueuedGames();
+
+    int getActiveCallbackThreads();
+
+    int getRunningPriorityTimers();
+
+    int getScheduledTimeouts();
+
+    int getScheduledIdleTimeouts();
+
+    long getCallbacksSent();
+
+    long getCallbacksDropped();
+
+    long getCompressedBytesSent();
+
+    long getGameViewsBuilt();
+
+    /**
+     * @return count, average, percentiles and max of the game view build time
+     */
+    String getGameViewBuildTime();
+
+    long getGameViewBuildTimeP99Micros();
+
+    String getCheckStateAndTriggeredTime();
+
+    long getCheckStateAndTriggeredTimeP99Micros();
+
+    String getApplyEffectsTime();
+
+    long getApplyEffectsTimeP99Micros();
+
+    String getComputerDecisionTime();
+
+    long getComputerDecisionTimeP99Micros();
+
+    String getCardDbQueryTime();
+
+    long getCardDbQueryTimeP99Micros();
+
+    long getEventsFired();
+
+    /**
+     * @return events fired per second since the previous read
+     */
+    long getEventsPerSecond();
+
+    String getSummary();
+
+    void resetCounters();
+}
@@ -30,6 +30,7 @@ package mage.server.util;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -42,7 +43,9 @@ public enum ThreadExecutor {
 instance;
     private static final ExecutorService callExecutor = Executors.newCachedThreadPool();
     private static final ExecutorService userExecutor = Executors.newCachedThreadPool();
+    private static final ExecutorService callbackExecutor = Executors.newCachedThreadPool();
     private static final ExecutorService gameExecutor = Executors.newFixedThreadPool(ConfigSettings.instance.getMaxGameThreads());
+    private static final ExecutorService userStatsExecutor = Executors.newFixedThreadPool(1);
     private static final ScheduledExecutorService timeoutExecutor = Executors.newScheduledThreadPool(4);
     private static final ScheduledExecutorService timeoutIdleExecutor = Executors.newScheduledThreadPool(4);
 
@@ -63,12 +66,22 @@ instance;
         ((ThreadPoolExecutor) userExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) userExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) userExecutor).setThreadFactory(new XMageThreadFactory("USER"));
+        ((ThreadPoolExecutor) callbackExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) callbackExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) callbackExecutor).setThreadFactory(new XMageThreadFactory("CALLBACK"));
         ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XMageThreadFactory("GAME"));
+        // user stats are written by one thread at a time
+        ((ThreadPoolExecutor) userStatsExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+        ((ThreadPoolExecutor) userStatsExecutor).allowCoreThreadTimeOut(true);
+        ((ThreadPoolExecutor) userStatsExecutor).setThreadFactory(new XMageThreadFactory("USER_STATS"));
+        // cancelled timeouts (renewed with every player action) don't need to wait in the queue until their time is up
+        ((ScheduledThreadPoolExecutor) timeoutExecutor).setRemoveOnCancelPolicy(true);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT"));
+        ((ScheduledThreadPoolExecutor) timeoutIdleExecutor).setRemoveOnCancelPolicy(true);
         ((ThreadPoolExecutor) timeoutIdleExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) timeoutIdleExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) timeoutIdleExecutor).setThreadFactory(new XMageThreadFactory("TIMEOUT_IDLE"));
@@ -82,14 +95,42 @@ instance;
         return -1;
     }
 
+    /**
+     * @return number of tasks that wait for a free thread
+     */
+    public int getQueuedTasks(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executorService).getQueue().size();
+        }
+        return -1;
+    }
+
+    /**
+     * @return number of tasks that wait for their time to run
+     */
+    public int getScheduledTasks(ScheduledExecutorService executorService) {
+        if (executorService instanceof ScheduledThreadPoolExecutor) {
+            return ((ScheduledThreadPoolExecutor) executorService).getQueue().size();
+        }
+        return -1;
+    }
+
     public ExecutorService getCallExecutor() {
         return callExecutor;
     }
 
+    public ExecutorService getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
     public ExecutorService getGameExecutor() {
         return gameExecutor;
     }
 
+    public ExecutorService getUserStatsExecutor() {
+        return userStatsExecutor;
+    }
+
     public ScheduledExecutorService getTimeoutExecutor() {
         return timeoutExecutor;
     }
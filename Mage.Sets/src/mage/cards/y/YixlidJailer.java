@@ -29,7 +29,6 @@ package mage.cards.y;
 
 import java.util.UUID;
 import mage.MageInt;
-import mage.abilities.Abilities;
 import mage.abilities.Ability;
 import mage.abilities.common.SimpleStaticAbility;
 import mage.abilities.effects.ContinuousEffectImpl;
@@ -97,9 +96,8 @@ public class YixlidJailer extends CardImpl {
                                     // TODO: Fix that (LevelX2)
                                     // game.getContinuousEffects().removeGainedEffectsForSource(card.getId());
                                     // game.getState().resetTriggersForSourceId(card.getId());
-                                    Abilities abilities = game.getState().getAllOtherAbilities(card.getId());
-                                    if (abilities != null) {
-                                        abilities.clear();
+                                    if (game.getState().findCardState(card.getId()) != null) {
+                                        game.getState().getCardState(card.getId()).clearAbilities();
                                     }
                                 }
                             }
@@ -0,0 +1,56 @@
+package org.mage.test.sba;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * State-based actions and state triggers have to be checked before every
+ * priority, also if the state changed without an event of its own (e.g. by
+ * a continuous effect).
+ */
+public class StateCheckWithoutEventTest extends CardTestPlayerBase {
+
+    /**
+     * The toughness is reduced by a continuous effect, there is no damage or
+     * destroy event the creature dies from.
+     */
+    @Test
+    public void testZeroToughnessByContinuousEffect() {
+        addCard(Zone.HAND, playerA, "Disfigure");
+        addCard(Zone.BATTLEFIELD, playerA, "Swamp", 1);
+
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Disfigure", "Grizzly Bears");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPermanentCount(playerB, "Grizzly Bears", 0);
+        assertGraveyardCount(playerB, "Grizzly Bears", 1);
+    }
+
+    /**
+     * State triggers are checked against the state, not against an event.
+     */
+    @Test
+    public void testStateTrigger() {
+        // When you control no other creatures, sacrifice Emperor Crocodile.
+        addCard(Zone.BATTLEFIELD, playerA, "Emperor Crocodile");
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+
+        addCard(Zone.HAND, playerB, "Lightning Bolt");
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerB, "Lightning Bolt", "Grizzly Bears");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Grizzly Bears", 1);
+        assertPermanentCount(playerA, "Emperor Crocodile", 0);
+        assertGraveyardCount(playerA, "Emperor Crocodile", 1);
+    }
+}
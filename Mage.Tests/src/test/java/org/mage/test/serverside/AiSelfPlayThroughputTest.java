@@ -0,0 +1,235 @@
+package org.mage.test.serverside;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import mage.cards.decks.Deck;
+import mage.cards.decks.importer.DeckImporterUtil;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.RangeOfInfluence;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.TwoPlayerDuel;
+import mage.player.ai.ComputerPlayer;
+import mage.player.ai.ComputerPlayer6;
+import mage.player.ai.ComputerPlayer7;
+import mage.players.Player;
+import mage.util.metrics.EngineMetrics;
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestBase;
+
+/**
+ * Plays computer against computer games in parallel without a server and
+ * reports games per minute, priority decision times, allocated memory per
+ * game, the number of games that failed with an exception and the number of
+ * errors the engine caught and logged while playing.
+ *
+ * The decks are picked from the test decks with the given seed, so a run with
+ * the same seed plays the same match ups (the engine's own shuffling and
+ * choices are still random).
+ *
+ * The computer player is ComputerPlayer (basic), ComputerPlayer6 or
+ * ComputerPlayer7, the last two with the given skill.
+ *
+ * Run the main method with: games threads seed [player [skill]]
+ */
+public class AiSelfPlayThroughputTest extends MageTestBase {
+
+    private static final List<String> decks = Arrays.asList("RB Aggro.dck", "UW Control.dck", "Power Hungry.dck");
+    private static final int MAX_TURNS = 40;
+
+    private final String playerType;
+    private final int skill;
+
+    public AiSelfPlayThroughputTest() {
+        this("ComputerPlayer7", 4);
+    }
+
+    public AiSelfPlayThroughputTest(String playerType, int skill) {
+        this.playerType = playerType;
+        this.skill = skill;
+    }
+
+    @Test
+    @Ignore
+    public void playGames() throws Exception {
+        playGames(20, Runtime.getRuntime().availableProcessors(), 1);
+    }
+
+    public void playGames(int games, int threads, long seed) throws Exception {
+        EngineErrorCounter errorCounter = new EngineErrorCounter();
+        Logger.getRootLogger().addAppender(errorCounter);
+        EngineMetrics.instance.reset();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<Future<GameResult>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            final int gameNumber = i;
+            futures.add(pool.submit(() -> playOneGame(new Random(seed + gameNumber))));
+        }
+        List<GameResult> results = new ArrayList<>();
+        for (Future<GameResult> future : futures) {
+            results.add(future.get());
+        }
+        long duration = System.nanoTime() - start;
+        pool.shutdown();
+        Logger.getRootLogger().removeAppender(errorCounter);
+        report(results, duration, threads, errorCounter);
+    }
+
+    private GameResult playOneGame(Random random) {
+        GameResult result = new GameResult();
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            Game game = new TwoPlayerDuel(MultiplayerAttackOption.LEFT, RangeOfInfluence.ALL, 0, 20);
+            Player computerA = addPlayer(game, "ComputerA", decks.get(random.nextInt(decks.size())));
+            addPlayer(game, "ComputerB", decks.get(random.nextInt(decks.size())));
+
+            GameOptions options = new GameOptions();
+            options.testMode = true;
+            options.stopOnTurn = MAX_TURNS;
+            game.setGameOptions(options);
+            game.start(computerA.getId());
+
+            result.turns = game.getTurnNum();
+            result.finished = game.hasEnded();
+        } catch (Exception e) {
+            logger.error("Game failed", e);
+            result.failed = true;
+        }
+        result.durationNanos = System.nanoTime() - start;
+        result.allocatedBytes = getAllocatedBytes() - allocatedBefore;
+        return result;
+    }
+
+    private Player addPlayer(Game game, String name, String deckFile) throws GameException {
+        Deck deck = Deck.load(DeckImporterUtil.importDeck(deckFile), false, false);
+        if (deck.getCards().size() < 40) {
+            throw new IllegalArgumentException("Couldn't load deck, deck size=" + deck.getCards().size());
+        }
+        Player player = createPlayer(name);
+        game.addPlayer(player, deck);
+        game.loadCards(deck.getCards(), player.getId());
+        return player;
+    }
+
+    private Player createPlayer(String name) {
+        switch (playerType) {
+            case "ComputerPlayer":
+                return new ComputerPlayer(name, RangeOfInfluence.ALL);
+            case "ComputerPlayer6":
+                return new ComputerPlayer6(name, RangeOfInfluence.ALL, skill);
+            case "ComputerPlayer7":
+                return new ComputerPlayer7(name, RangeOfInfluence.ALL, skill);
+            default:
+                throw new IllegalArgumentException("Unknown player type: " + playerType);
+        }
+    }
+
+    private void report(List<GameResult> results, long durationNanos, int threads, EngineErrorCounter errorCounter) {
+        int failed = 0;
+        int finished = 0;
+        long turns = 0;
+        long allocatedBytes = 0;
+        for (GameResult result : results) {
+            if (result.failed) {
+                failed++;
+            }
+            if (result.finished) {
+                finished++;
+            }
+            turns += result.turns;
+            allocatedBytes += result.allocatedBytes;
+        }
+        double minutes = durationNanos / (double) TimeUnit.MINUTES.toNanos(1);
+        logger.info(playerType + (playerType.equals("ComputerPlayer") ? "" : " skill " + skill)
+                + " - games: " + results.size() + " on " + threads + " threads in " + TimeUnit.NANOSECONDS.toSeconds(durationNanos) + " s"
+                + " (" + String.format("%.1f", results.size() / minutes) + " games per minute)");
+        logger.info("Finished: " + finished + ", stopped at turn " + MAX_TURNS + ": " + (results.size() - finished - failed)
+                + ", failed: " + failed + " (" + String.format("%.1f", 100.0 * failed / results.size()) + " %)");
+        logger.info("Turns per game: " + turns / results.size()
+                + ", allocated per game: " + allocatedBytes / results.size() / (1024 * 1024) + " MB");
+        logger.info("Engine errors logged: " + errorCounter.errors.sum()
+                + ", with exception: " + errorCounter.exceptions.sum());
+        logger.info("Priority decisions: " + EngineMetrics.instance.getComputerDecision());
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far or 0 if the jvm
+     * can't tell
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static class GameResult {
+
+        private long durationNanos;
+        private long allocatedBytes;
+        private int turns;
+        private boolean finished;
+        private boolean failed;
+    }
+
+    /**
+     * Counts the errors the engine (mage.* loggers) logs, the game loop
+     * catches most exceptions and only logs them, so the games go on.
+     */
+    private static class EngineErrorCounter extends AppenderSkeleton {
+
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+
+        @Override
+        protected void append(LoggingEvent event) {
+            if (event.getLevel().isGreaterOrEqual(Level.ERROR) && event.getLoggerName().startsWith("mage.")) {
+                errors.increment();
+                if (event.getThrowableInformation() != null) {
+                    exceptions.increment();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        String playerType = args.length > 3 ? args[3] : "ComputerPlayer7";
+        int skill = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+        init();
+        try {
+            new AiSelfPlayThroughputTest(playerType, skill).playGames(games, threads, seed);
+        } catch (Exception e) {
+            logger.error("Self play failed", e);
+            throw new RuntimeException(e);
+        }
+    }
+}
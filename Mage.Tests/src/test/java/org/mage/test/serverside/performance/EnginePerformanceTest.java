@@ -0,0 +1,203 @@
+package org.mage.test.serverside.performance;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import mage.cards.decks.Deck;
+import mage.cards.decks.DeckCardLists;
+import mage.cards.decks.importer.DeckImporterUtil;
+import mage.cards.repository.CardRepository;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.constants.Zone;
+import mage.game.CommanderFreeForAll;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.events.GameEvent;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the engine hot paths on a few boards and appends the results to
+ * target/engine-performance.csv so runs of different builds can be compared.
+ *
+ * Each operation is measured in several rounds after a warm up. The result of
+ * every call is handed to a volatile sink, so the JIT can't drop the measured
+ * work. Reported are the mean of the rounds with its standard deviation and
+ * the p50/p99 of the single calls.
+ *
+ * Run the main method, the first argument is used as build label, all further
+ * arguments are scenario files (see {@link #parseScenario(String)}) that are
+ * measured as saved boards.
+ */
+@Ignore
+public class EnginePerformanceTest extends CardTestPlayerBase {
+
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int ROUNDS = 10;
+    private static final int ITERATIONS_PER_ROUND = 200;
+
+    private final String build;
+    private final List<String> scenarios;
+    private final List<String> results = new ArrayList<>();
+    private boolean commanderGame;
+
+    // results of the measured calls end here, so they can't be eliminated as dead code
+    private volatile Object sink;
+
+    public EnginePerformanceTest(String build, List<String> scenarios) {
+        this.build = build;
+        this.scenarios = scenarios;
+    }
+
+    @Override
+    protected Game createNewGameAndPlayers() throws GameException, FileNotFoundException {
+        if (!commanderGame) {
+            return super.createNewGameAndPlayers();
+        }
+        Game game = new CommanderFreeForAll(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL, 0, 40);
+        playerA = createPlayer(game, playerA, "PlayerA", "CommanderDuel.dck");
+        playerB = createPlayer(game, playerB, "PlayerB", "CommanderDuel.dck");
+        playerC = createPlayer(game, playerC, "PlayerC", "CommanderDuel.dck");
+        playerD = createPlayer(game, playerD, "PlayerD", "CommanderDuel.dck");
+        return game;
+    }
+
+    public void run() throws Exception {
+        init();
+
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 8);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 8);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 4);
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 8);
+        addCard(Zone.BATTLEFIELD, playerB, "Pillarfield Ox", 4);
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+        measureBoard("duel");
+
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 60);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 60);
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+        measureBoard("swarm");
+
+        commanderGame = true;
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears", 10);
+        addCard(Zone.BATTLEFIELD, playerC, "Island", 10);
+        addCard(Zone.BATTLEFIELD, playerC, "Pillarfield Ox", 10);
+        addCard(Zone.BATTLEFIELD, playerD, "Swamp", 10);
+        addCard(Zone.BATTLEFIELD, playerD, "Silvercoat Lion", 10);
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+        measureBoard("commander4");
+        commanderGame = false;
+
+        for (String scenario : scenarios) {
+            reset();
+            parseScenario(scenario);
+            setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+            execute();
+            measureBoard(new File(scenario).getName());
+        }
+
+        measure("cards", "createCard", () -> CardRepository.instance.findCard("Silvercoat Lion").getCard());
+        DeckCardLists deckList = DeckImporterUtil.importDeck("RB Aggro.dck");
+        measure("cards", "loadDeck", () -> Deck.load(deckList, false, false));
+
+        write();
+    }
+
+    private void measureBoard(String board) throws Exception {
+        Game copy = currentGame.copy();
+        Assert.assertEquals("copy must contain the whole battlefield",
+                currentGame.getBattlefield().getAllPermanents().size(), copy.getBattlefield().getAllPermanents().size());
+
+        GameEvent event = GameEvent.getEvent(GameEvent.EventType.UPKEEP_STEP_PRE, null, null, playerA.getId());
+        measure(board, "copy", () -> currentGame.copy());
+        measure(board, "applyEffects", () -> {
+            currentGame.applyEffects();
+            return currentGame.getState().getStateVersion();
+        });
+        measure(board, "checkTriggers", () -> {
+            currentGame.getState().getTriggers().checkTriggers(event, currentGame);
+            return currentGame.getState().getTriggered(playerA.getId());
+        });
+        measure(board, "getPlayable", () -> playerA.getPlayable(currentGame, true));
+        measure(board, "getManaAvailable", () -> playerA.getManaAvailable(currentGame));
+        measure(board, "gameView", () -> new GameView(currentGame.getState(), currentGame, playerA.getId(), null));
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        measure(board, "gameViewSerialization", () -> GameViewSerializationPerformanceTest.serialize(gameView));
+    }
+
+    private void measure(String board, String operation, Callable<Object> task) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = task.call();
+        }
+        long[] calls = new long[ROUNDS * ITERATIONS_PER_ROUND];
+        double[] roundMeans = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < ITERATIONS_PER_ROUND; i++) {
+                long start = System.nanoTime();
+                sink = task.call();
+                calls[round * ITERATIONS_PER_ROUND + i] = System.nanoTime() - start;
+            }
+            roundMeans[round] = (System.nanoTime() - roundStart) / (double) ITERATIONS_PER_ROUND / 1000;
+        }
+
+        double mean = Arrays.stream(roundMeans).average().orElse(0);
+        double variance = Arrays.stream(roundMeans).map(m -> (m - mean) * (m - mean)).sum() / (ROUNDS - 1);
+        double error = Math.sqrt(variance);
+        Arrays.sort(calls);
+        long p50 = calls[calls.length / 2] / 1000;
+        long p99 = calls[calls.length * 99 / 100] / 1000;
+
+        logger.info(String.format("%s %s: %.1f +- %.1f us (p50 %d us, p99 %d us)", board, operation, mean, error, p50, p99));
+        results.add(build + ',' + board + ',' + operation + ',' + calls.length
+                + ',' + String.format("%.1f", mean) + ',' + String.format("%.1f", error) + ',' + p50 + ',' + p99);
+    }
+
+    private void write() throws IOException {
+        File file = new File("target", "engine-performance.csv");
+        file.getParentFile().mkdirs();
+        if (!file.exists()) {
+            results.add(0, "build,board,operation,iterations,mean_us,error_us,p50_us,p99_us");
+        }
+        Files.write(file.toPath(), results, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        logger.info("Results appended to " + file.getAbsolutePath());
+    }
+
+    public static void main(String[] args) {
+        String build = args.length > 0 ? args[0] : "local";
+        List<String> scenarios = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : new ArrayList<>();
+        EnginePerformanceTest test = new EnginePerformanceTest(build, scenarios);
+        try {
+            test.run();
+        } catch (Exception e) {
+            logger.error("Performance test failed", e);
+            throw new RuntimeException(e);
+        }
+    }
+}
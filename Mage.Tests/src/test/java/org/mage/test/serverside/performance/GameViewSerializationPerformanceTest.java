@@ -0,0 +1,76 @@
+package org.mage.test.serverside.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.GameView;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares size and time of sending a game view plain and compressed. Both
+ * ways are timed for the full round trip (server side serialization or
+ * compression plus client side restore).
+ */
+@Ignore
+public class GameViewSerializationPerformanceTest extends CardTestPlayerBase {
+
+    public void run() throws Exception {
+        init();
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Silvercoat Lion", 5);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Pillarfield Ox", 5);
+        setStopAt(2, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        GameView gameView = new GameView(currentGame.getState(), currentGame, playerA.getId(), null);
+        int plainSize = serialize(gameView).length;
+        int compressedSize = new ZippedObjectImpl<>(gameView).getSize();
+        logger.info("Plain: " + plainSize + " bytes, compressed: " + compressedSize + " bytes");
+        Assert.assertTrue("compressed game view must be smaller", compressedSize < plainSize);
+
+        long t1 = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            deserialize(serialize(gameView));
+        }
+        long t2 = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            new ZippedObjectImpl<>(gameView).unzip();
+        }
+        long t3 = System.currentTimeMillis();
+        logger.info("Plain round trip took: " + (t2 - t1) + " ms, compressed round trip took: " + (t3 - t2) + " ms");
+    }
+
+    static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(object);
+        }
+        return bos.toByteArray();
+    }
+
+    static Object deserialize(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return ois.readObject();
+        }
+    }
+
+    public static void main(String[] args) {
+        GameViewSerializationPerformanceTest test = new GameViewSerializationPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            logger.error("Performance test failed", e);
+            throw new RuntimeException(e);
+        }
+    }
+}
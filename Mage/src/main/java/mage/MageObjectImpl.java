@@ -340,6 +340,7 @@ public abstract class MageObjectImpl implements MageObject {
                 textPart.replaceWith(toSubType);
             }
         }
+        abilities.invalidateRules();
     }
 
     /**
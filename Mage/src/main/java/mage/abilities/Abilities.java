@@ -63,6 +63,13 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
 
     List<String> getRules(String source, boolean capitalize);
 
+    /**
+     * Drops the cached rules texts. Must be called if an ability of the
+     * collection was changed in place (e.g. by a text changing effect), changes
+     * of the collection itself are tracked automatically.
+     */
+    void invalidateRules();
+
     /**
      * Retrieves all activated abilities for the given {@link Zone}.
      *
@@ -28,6 +28,8 @@
 package mage.abilities;
 
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import mage.abilities.common.ZoneChangeTriggeredAbility;
 import mage.abilities.costs.Cost;
@@ -49,6 +51,11 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(200);
 
+    // rules text only depends on the contained abilities, so it's kept until the collection
+    // changes or a text changing effect calls invalidateRules()
+    private transient List<String> rulesCache;
+    private transient boolean rulesCacheCapitalized;
+
     public AbilitiesImpl() {
     }
 
@@ -60,6 +67,9 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         for (T ability : abilities) {
             this.add((T) ability.copy());
         }
+        // the cached list is unmodifiable, so the copy can share it
+        this.rulesCache = abilities.rulesCache;
+        this.rulesCacheCapitalized = abilities.rulesCacheCapitalized;
     }
 
     @Override
@@ -74,6 +84,20 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public List<String> getRules(String source, boolean capitalize) {
+        if (rulesCache == null || rulesCacheCapitalized != capitalize) {
+            rulesCache = Collections.unmodifiableList(createRules(capitalize));
+            rulesCacheCapitalized = capitalize;
+        }
+        // callers add the in game info lines to the returned list
+        return new ArrayList<>(rulesCache);
+    }
+
+    @Override
+    public void invalidateRules() {
+        rulesCache = null;
+    }
+
+    private List<String> createRules(boolean capitalize) {
         List<String> rules = new ArrayList<>();
 
         for (T ability : this) {
@@ -122,6 +146,84 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         return rules;
     }
 
+    @Override
+    public boolean add(T ability) {
+        rulesCache = null;
+        return super.add(ability);
+    }
+
+    @Override
+    public void add(int index, T ability) {
+        rulesCache = null;
+        super.add(index, ability);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> abilities) {
+        rulesCache = null;
+        return super.addAll(abilities);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> abilities) {
+        rulesCache = null;
+        return super.addAll(index, abilities);
+    }
+
+    @Override
+    public T set(int index, T ability) {
+        rulesCache = null;
+        return super.set(index, ability);
+    }
+
+    @Override
+    public T remove(int index) {
+        rulesCache = null;
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object ability) {
+        rulesCache = null;
+        return super.remove(ability);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> abilities) {
+        rulesCache = null;
+        return super.removeAll(abilities);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> abilities) {
+        rulesCache = null;
+        return super.retainAll(abilities);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        rulesCache = null;
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        rulesCache = null;
+        super.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        rulesCache = null;
+        super.sort(comparator);
+    }
+
+    @Override
+    public void clear() {
+        rulesCache = null;
+        super.clear();
+    }
+
     @Override
     public Abilities<ActivatedAbility> getActivatedAbilities(Zone zone) {
         return stream()
@@ -96,7 +96,7 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
                             //                            || event.getType().equals(EventType.SACRIFICED_PERMANENT))
                             && game.getLKI().get(Zone.BATTLEFIELD) != null && game.getLKI().get(Zone.BATTLEFIELD).containsKey(ability.getSourceId())) {
                         // need to check if object was face down for dies and destroy events because the ability triggers in the new zone, zone counter -1 is used
-                        Permanent permanent = (Permanent) game.getLastKnownInformation(ability.getSourceId(), Zone.BATTLEFIELD, ability.getSourceObjectZoneChangeCounter() - 1);
+                        Permanent permanent = (Permanent) game.getLastKnownInformationSnapshot(ability.getSourceId(), Zone.BATTLEFIELD, ability.getSourceObjectZoneChangeCounter() - 1);
                         if (permanent != null) {
                             if (!ability.getWorksFaceDown() && permanent.isFaceDown(game)) {
                                 return;
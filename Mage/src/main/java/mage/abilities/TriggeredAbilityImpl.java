@@ -189,17 +189,17 @@ public abstract class TriggeredAbilityImpl extends AbilityImpl implements Trigge
                 case DESTROYED_PERMANENT:
                     if (isLeavesTheBattlefieldTrigger()) {
                         if (event.getType() == EventType.DESTROYED_PERMANENT) {
-                            source = game.getLastKnownInformation(getSourceId(), Zone.BATTLEFIELD);
+                            source = game.getLastKnownInformationSnapshot(getSourceId(), Zone.BATTLEFIELD);
                         } else if (((ZoneChangeEvent) event).getTarget() != null) {
                             source = ((ZoneChangeEvent) event).getTarget();
                         } else {
-                            source = game.getLastKnownInformation(getSourceId(), ((ZoneChangeEvent) event).getZone());
+                            source = game.getLastKnownInformationSnapshot(getSourceId(), ((ZoneChangeEvent) event).getZone());
                         }
                     }
 
                 case PHASED_OUT:
                 case PHASED_IN:
-                    if (this.zone == Zone.ALL || game.getLastKnownInformation(getSourceId(), zone) != null) {
+                    if (this.zone == Zone.ALL || game.getLastKnownInformationSnapshot(getSourceId(), zone) != null) {
                         return this.hasSourceObjectAbility(game, source, event);
                     }
             }
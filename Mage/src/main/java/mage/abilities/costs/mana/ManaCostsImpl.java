@@ -28,6 +28,7 @@
 package mage.abilities.costs.mana;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.Mana;
 import mage.abilities.Ability;
 import mage.abilities.costs.Cost;
@@ -55,7 +56,12 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     protected final UUID id;
     protected String text = null;
 
-    private static Map<String, ManaCosts> costs = new HashMap<>();
+    // parsed costs by mana string, the cached costs are never handed out, only copies of them
+    private static final Map<String, List<ManaCost>> costs = new ConcurrentHashMap<>();
+    // symbol texts shared by the views of all costs
+    private static final Map<String, String> symbolTexts = new ConcurrentHashMap<>();
+    // costs built at runtime (e.g. with X values) must not let the caches grow without limit
+    private static final int MAX_CACHED_ENTRIES = 20000;
 
     public ManaCostsImpl() {
         this.id = UUID.randomUUID();
@@ -349,15 +355,15 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     @Override
     public final void load(String mana) {
         this.clear();
-        if (costs.containsKey(mana)) {
-            ManaCosts<ManaCost> savedCosts = costs.get(mana);
+        if (mana == null || mana.isEmpty()) {
+            return;
+        }
+        List<ManaCost> savedCosts = costs.get(mana);
+        if (savedCosts != null) {
             for (ManaCost cost : savedCosts) {
                 this.add(cost.copy());
             }
         } else {
-            if (mana == null || mana.isEmpty()) {
-                return;
-            }
             String[] symbols = mana.split("^\\{|}\\{|}$");
             int modifierForX = 0;
             for (String symbol : symbols) {
@@ -390,7 +396,13 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
                     }
                 }
             }
-            costs.put(mana, this.copy());
+            if (costs.size() < MAX_CACHED_ENTRIES) {
+                List<ManaCost> parsedCosts = new ArrayList<>(this.size());
+                for (ManaCost cost : this) {
+                    parsedCosts.add(cost.copy());
+                }
+                costs.putIfAbsent(mana, Collections.unmodifiableList(parsedCosts));
+            }
         }
     }
 
@@ -408,11 +420,25 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     public List<String> getSymbols() {
         List<String> symbols = new ArrayList<>();
         for (ManaCost cost : this) {
-            symbols.add(cost.getText());
+            symbols.add(getSymbolText(cost.getText()));
         }
         return symbols;
     }
 
+    private static String getSymbolText(String text) {
+        String symbolText = symbolTexts.get(text);
+        if (symbolText == null) {
+            if (symbolTexts.size() >= MAX_CACHED_ENTRIES) {
+                return text;
+            }
+            symbolText = symbolTexts.putIfAbsent(text, text);
+            if (symbolText == null) {
+                symbolText = text;
+            }
+        }
+        return symbolText;
+    }
+
     @Override
     public UUID getId() {
         return this.id;
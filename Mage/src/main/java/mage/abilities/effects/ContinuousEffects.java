@@ -30,7 +30,6 @@ package mage.abilities.effects;
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 import mage.MageObject;
 import mage.abilities.*;
 import mage.abilities.effects.common.continuous.BecomesFaceDownCreatureEffect;
@@ -82,11 +81,16 @@ public class ContinuousEffects implements Serializable {
     private final PlaneswalkerRedirectionEffect planeswalkerRedirectionEffect;
     private final AuraReplacementEffect auraReplacementEffect;
 
-    private final List<ContinuousEffect> previous = new ArrayList<>();
+    private final Set<ContinuousEffect> previous = new HashSet<>();
 
     // note all effect/abilities that were only added temporary
     private final Map<ContinuousEffect, Set<Ability>> temporaryEffects = new HashMap<>();
 
+    // applicable restriction effects by permanent, valid as long as the game state version and the effects don't change
+    // (blocks are checked for every blocker and attacker combination, so the same permanents are asked for many times)
+    private transient Map<Permanent, Map<RestrictionEffect, Set<Ability>>> applicableRestrictionEffects;
+    private transient long applicableRestrictionEffectsStateVersion;
+
     public ContinuousEffects() {
         applyCounters = new ApplyCountersEffect();
         planeswalkerRedirectionEffect = new PlaneswalkerRedirectionEffect();
@@ -144,6 +148,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public void removeEndOfCombatEffects() {
+        restrictionEffectsChanged();
         layeredEffects.removeEndOfCombatEffects();
         continuousRuleModifyingEffects.removeEndOfCombatEffects();
         replacementEffects.removeEndOfCombatEffects();
@@ -158,6 +163,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public void removeEndOfTurnEffects() {
+        restrictionEffectsChanged();
         layeredEffects.removeEndOfTurnEffects();
         continuousRuleModifyingEffects.removeEndOfTurnEffects();
         replacementEffects.removeEndOfTurnEffects();
@@ -172,6 +178,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public void removeInactiveEffects(Game game) {
+        restrictionEffectsChanged();
         layeredEffects.removeInactiveEffects(game);
         continuousRuleModifyingEffects.removeInactiveEffects(game);
         replacementEffects.removeInactiveEffects(game);
@@ -241,8 +248,40 @@ public class ContinuousEffects implements Serializable {
         effect.setOrder(order++);
     }
 
-    private List<ContinuousEffect> filterLayeredEffects(List<ContinuousEffect> effects, Layer layer) {
-        return effects.stream().filter(effect -> effect.hasLayer(layer)).collect(Collectors.toList());
+    /**
+     * The active layered effects in timestamp order, split into the effects of
+     * each layer the first time a layer is needed.
+     */
+    private static final class LayeredEffects {
+
+        private final List<ContinuousEffect> effects;
+        private final Map<Layer, List<ContinuousEffect>> effectsByLayer = new EnumMap<>(Layer.class);
+        private Set<ContinuousEffect> effectSet;
+
+        LayeredEffects(List<ContinuousEffect> effects) {
+            this.effects = effects;
+        }
+
+        List<ContinuousEffect> get(Layer layer) {
+            List<ContinuousEffect> layerEffects = effectsByLayer.get(layer);
+            if (layerEffects == null) {
+                layerEffects = new ArrayList<>();
+                for (ContinuousEffect effect : effects) {
+                    if (effect.hasLayer(layer)) {
+                        layerEffects.add(effect);
+                    }
+                }
+                effectsByLayer.put(layer, layerEffects);
+            }
+            return layerEffects;
+        }
+
+        boolean contains(ContinuousEffect effect) {
+            if (effectSet == null) {
+                effectSet = new HashSet<>(effects);
+            }
+            return effectSet.contains(effect);
+        }
     }
 
     public Map<RequirementEffect, Set<Ability>> getApplicableRequirementEffects(Permanent permanent, boolean playerRealted, Game game) {
@@ -267,6 +306,27 @@ public class ContinuousEffects implements Serializable {
     }
 
     public Map<RestrictionEffect, Set<Ability>> getApplicableRestrictionEffects(Permanent permanent, Game game) {
+        long stateVersion = game.getState().getStateVersion();
+        if (applicableRestrictionEffects == null || applicableRestrictionEffectsStateVersion != stateVersion) {
+            applicableRestrictionEffects = new IdentityHashMap<>();
+            applicableRestrictionEffectsStateVersion = stateVersion;
+        }
+        Map<RestrictionEffect, Set<Ability>> effects = applicableRestrictionEffects.get(permanent);
+        if (effects == null) {
+            effects = Collections.unmodifiableMap(calculateApplicableRestrictionEffects(permanent, game));
+            // the calculation can handle events, so the result only counts for the version it was started with
+            if (applicableRestrictionEffects != null && applicableRestrictionEffectsStateVersion == game.getState().getStateVersion()) {
+                applicableRestrictionEffects.put(permanent, effects);
+            }
+        }
+        return effects;
+    }
+
+    private void restrictionEffectsChanged() {
+        applicableRestrictionEffects = null;
+    }
+
+    private Map<RestrictionEffect, Set<Ability>> calculateApplicableRestrictionEffects(Permanent permanent, Game game) {
         Map<RestrictionEffect, Set<Ability>> effects = new HashMap<>();
         for (RestrictionEffect effect : restrictionEffects) {
             Set<Ability> abilities = restrictionEffects.getAbility(effect.getId());
@@ -336,7 +396,8 @@ public class ContinuousEffects implements Serializable {
      * event
      */
     private Map<ReplacementEffect, Set<Ability>> getApplicableReplacementEffects(GameEvent event, Game game) {
-        Map<ReplacementEffect, Set<Ability>> replaceEffects = new HashMap<>();
+        // most events have no applicable effect, so the sets are only created for effects that apply
+        Map<ReplacementEffect, Set<Ability>> replaceEffects = new HashMap<>(0);
         if (planeswalkerRedirectionEffect.checksEventType(event, game) && planeswalkerRedirectionEffect.applies(event, null, game)) {
             replaceEffects.put(planeswalkerRedirectionEffect, null);
         }
@@ -354,23 +415,27 @@ public class ContinuousEffects implements Serializable {
                 // TODO: Handle also gained effect that are connected to different abilities.
                 continue;
             }
+            if (effect.isUsed()) {
+                continue;
+            }
             Set<Ability> abilities = replacementEffects.getAbility(effect.getId());
-            Set<Ability> applicableAbilities = new HashSet<>();
+            Set<Ability> applicableAbilities = null;
             for (Ability ability : abilities) {
                 // for replacment effects of static abilities do not use LKI to check if to apply
                 if (ability.getAbilityType() != AbilityType.STATIC || ability.isInUseableZone(game, null, event)) {
-                    if (!effect.isUsed()) {
-                        if (!game.getScopeRelevant()
-                                || effect.hasSelfScope()
-                                || !event.getTargetId().equals(ability.getSourceId())) {
-                            if (effect.applies(event, ability, game)) {
-                                applicableAbilities.add(ability);
+                    if (!game.getScopeRelevant()
+                            || effect.hasSelfScope()
+                            || !event.getTargetId().equals(ability.getSourceId())) {
+                        if (effect.applies(event, ability, game)) {
+                            if (applicableAbilities == null) {
+                                applicableAbilities = new HashSet<>();
                             }
+                            applicableAbilities.add(ability);
                         }
                     }
                 }
             }
-            if (!applicableAbilities.isEmpty()) {
+            if (applicableAbilities != null) {
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
@@ -383,18 +448,22 @@ public class ContinuousEffects implements Serializable {
                 // TODO: Handle also gained effect that are connected to different abilities.
                 continue;
             }
+            if (effect.getDuration() == Duration.OneUse && effect.isUsed()) {
+                continue;
+            }
             Set<Ability> abilities = preventionEffects.getAbility(effect.getId());
-            Set<Ability> applicableAbilities = new HashSet<>();
+            Set<Ability> applicableAbilities = null;
             for (Ability ability : abilities) {
                 if (ability.getAbilityType() != AbilityType.STATIC || ability.isInUseableZone(game, null, event)) {
-                    if (effect.getDuration() != Duration.OneUse || !effect.isUsed()) {
-                        if (effect.applies(event, ability, game)) {
-                            applicableAbilities.add(ability);
+                    if (effect.applies(event, ability, game)) {
+                        if (applicableAbilities == null) {
+                            applicableAbilities = new HashSet<>();
                         }
+                        applicableAbilities.add(ability);
                     }
                 }
             }
-            if (!applicableAbilities.isEmpty()) {
+            if (applicableAbilities != null) {
                 replaceEffects.put((ReplacementEffect) effect, applicableAbilities);
             }
         }
@@ -744,13 +813,13 @@ public class ContinuousEffects implements Serializable {
 
     public boolean replaceEvent(GameEvent event, Game game) {
         boolean caught = false;
-        Map<UUID, Set<UUID>> consumed = new HashMap<>();
+        Map<UUID, Set<UUID>> consumed = null;
         do {
             Map<ReplacementEffect, Set<Ability>> rEffects = getApplicableReplacementEffects(event, game);
             // Remove all consumed effects (ability dependant)
             for (Iterator<ReplacementEffect> it1 = rEffects.keySet().iterator(); it1.hasNext();) {
                 ReplacementEffect entry = it1.next();
-                if (consumed.containsKey(entry.getId())) {
+                if (consumed != null && consumed.containsKey(entry.getId())) {
                     Set<UUID> consumedAbilitiesIds = consumed.get(entry.getId());
                     if (rEffects.get(entry) == null || consumedAbilitiesIds.size() == rEffects.get(entry).size()) {
                         it1.remove();
@@ -833,6 +902,9 @@ public class ContinuousEffects implements Serializable {
 
             // add the applied effect to the consumed effects
             if (rEffect != null) {
+                if (consumed == null) {
+                    consumed = new HashMap<>();
+                }
                 if (consumed.containsKey(rEffect.getId())) {
                     Set<UUID> set = consumed.get(rEffect.getId());
                     if (rAbility != null) {
@@ -858,10 +930,11 @@ public class ContinuousEffects implements Serializable {
 
     //20091005 - 613
     public void apply(Game game) {
+        // removes inactive effects and forgets the applicable restriction effects, the layers can change the permanents
         removeInactiveEffects(game);
-        List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game);
+        LayeredEffects activeLayerEffects = new LayeredEffects(getLayeredEffects(game));
 
-        List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
+        List<ContinuousEffect> layer = activeLayerEffects.get(Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -870,10 +943,10 @@ public class ContinuousEffects implements Serializable {
         }
         //Reload layerEffect if copy effects were applied
         if (!layer.isEmpty()) {
-            activeLayerEffects = getLayeredEffects(game);
+            activeLayerEffects = new LayeredEffects(getLayeredEffects(game));
         }
 
-        layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
+        layer = activeLayerEffects.get(Layer.ControlChangingEffects_2);
         // apply control changing effects multiple times if it's needed
         // for cases when control over permanents with change control abilities is changed
         // e.g. Mind Control is controlled by Steal Enchantment
@@ -893,6 +966,12 @@ public class ContinuousEffects implements Serializable {
         }
 
         applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game);
+        if (!activeLayerEffects.get(Layer.TextChangingEffects_3).isEmpty()) {
+            // text changing effects can modify abilities in place, so the cached rules texts are outdated
+            for (Permanent permanent : game.getBattlefield().getAllPermanents()) {
+                permanent.getAbilities().invalidateRules();
+            }
+        }
         applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game);
         applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game);
 
@@ -902,7 +981,7 @@ public class ContinuousEffects implements Serializable {
         Set<UUID> appliedEffects = new HashSet<>();
         while (!done) { // loop needed if a added effect adds again an effect (e.g. Level 5- of Joraga Treespeaker)
             done = true;
-            layer = filterLayeredEffects(activeLayerEffects, Layer.AbilityAddingRemovingEffects_6);
+            layer = activeLayerEffects.get(Layer.AbilityAddingRemovingEffects_6);
             for (ContinuousEffect effect : layer) {
                 if (activeLayerEffects.contains(effect) && !appliedEffects.contains(effect.getId())) { // Effect does still exist and was not applied yet
                     Set<UUID> dependentTo = effect.isDependentTo(layer);
@@ -922,7 +1001,7 @@ public class ContinuousEffects implements Serializable {
                             effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                             done = false;
                             // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                            activeLayerEffects = getLayeredEffects(game);
+                            activeLayerEffects = new LayeredEffects(getLayeredEffects(game));
                         }
                     }
                     appliedEffects.add(effect.getId());
@@ -944,7 +1023,7 @@ public class ContinuousEffects implements Serializable {
                                         entry.getKey().apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                                         done = false;
                                         // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                                        activeLayerEffects = getLayeredEffects(game);
+                                        activeLayerEffects = new LayeredEffects(getLayeredEffects(game));
                                     }
                                 }
                                 appliedEffects.add(entry.getKey().getId());
@@ -956,7 +1035,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        layer = filterLayeredEffects(activeLayerEffects, Layer.PTChangingEffects_7);
+        layer = activeLayerEffects.get(Layer.PTChangingEffects_7);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -986,14 +1065,14 @@ public class ContinuousEffects implements Serializable {
                 effect.apply(Layer.PTChangingEffects_7, SubLayer.SwitchPT_e, ability, game);
             }
         }
-        layer = filterLayeredEffects(activeLayerEffects, Layer.PlayerEffects);
+        layer = activeLayerEffects.get(Layer.PlayerEffects);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
                 effect.apply(Layer.PlayerEffects, SubLayer.NA, ability, game);
             }
         }
-        layer = filterLayeredEffects(activeLayerEffects, Layer.RulesEffects);
+        layer = activeLayerEffects.get(Layer.RulesEffects);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -1007,8 +1086,8 @@ public class ContinuousEffects implements Serializable {
         return object != null && object.hasAbility(ability.getId(), game);
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game) {
-        List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
+    private void applyLayer(LayeredEffects activeLayerEffects, Layer currentLayer, Game game) {
+        List<ContinuousEffect> layer = activeLayerEffects.get(currentLayer);
         if (!layer.isEmpty()) {
             int numberOfEffects = layer.size();
             Set<UUID> appliedEffects = new HashSet<>();
@@ -1109,6 +1188,7 @@ public class ContinuousEffects implements Serializable {
             case RESTRICTION:
                 RestrictionEffect newRestrictionEffect = (RestrictionEffect) effect;
                 restrictionEffects.addEffect(newRestrictionEffect, source);
+                restrictionEffectsChanged();
                 break;
             case RESTRICTION_UNTAP_NOT_MORE_THAN:
                 RestrictionUntapNotMoreThanEffect newRestrictionUntapNotMoreThanEffect = (RestrictionUntapNotMoreThanEffect) effect;
@@ -1186,6 +1266,7 @@ public class ContinuousEffects implements Serializable {
                     break;
                 case RESTRICTION:
                     restrictionEffects.removeEffects(entry.getKey().getId(), entry.getValue());
+                    restrictionEffectsChanged();
                     break;
                 case RESTRICTION_UNTAP_NOT_MORE_THAN:
                     restrictionUntapNotMoreThanEffects.removeEffects(entry.getKey().getId(), entry.getValue());
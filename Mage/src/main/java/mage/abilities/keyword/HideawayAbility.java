@@ -160,7 +160,8 @@ class HideawayLookAtFaceDownCardEffect extends AsThoughEffectImpl {
     @Override
     public boolean applies(UUID objectId, Ability source, UUID affectedControllerId, Game game) {
         if (game.getState().getZone(objectId) != Zone.EXILED
-                || !game.getState().getCardState(objectId).isFaceDown()) {
+                || game.getState().findCardState(objectId) == null
+                || !game.getState().findCardState(objectId).isFaceDown()) {
             return false;
         }
         // TODO: Does not handle if a player had the control of the land permanent some time before
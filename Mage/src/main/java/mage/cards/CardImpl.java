@@ -259,7 +259,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             List<String> rules = getRules();
             if (game != null) {
-                CardState cardState = game.getState().getCardState(objectId);
+                CardState cardState = game.getState().findCardState(objectId);
                 if (cardState != null) {
                     for (String data : cardState.getInfo().values()) {
                         rules.add(data);
@@ -645,7 +645,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().findCardState(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
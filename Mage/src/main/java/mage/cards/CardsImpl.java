@@ -61,7 +61,8 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
     }
 
     public CardsImpl(final CardsImpl cards) {
-        this.addAll(cards);
+        // sized for the copied ids, zones are copied with every game state copy
+        super(cards);
         this.ownerId = cards.ownerId;
     }
 
@@ -150,7 +151,7 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
 
     @Override
     public Set<Card> getCards(Game game) {
-        Set<Card> cards = new LinkedHashSet<>();
+        Set<Card> cards = new LinkedHashSet<>(Math.max(16, size() * 4 / 3 + 1));
         for (Iterator<UUID> it = this.iterator(); it.hasNext(); ) { // Changed to iterator because of ConcurrentModificationException
             UUID cardId = it.next();
 
@@ -27,8 +27,11 @@
  */
 package mage.cards.decks;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.cards.Card;
 import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
@@ -43,11 +46,19 @@ public class Constructed extends DeckValidator {
 
     private static final Logger logger = Logger.getLogger(DeckValidator.class);
 
+    private static final Set<String> basicLandNames = new HashSet<>(Arrays.asList("Forest", "Island", "Mountain", "Swamp", "Plains", "Wastes",
+            "Snow-Covered Forest", "Snow-Covered Island", "Snow-Covered Mountain", "Snow-Covered Swamp", "Snow-Covered Plains"));
+
     protected List<String> banned = new ArrayList<>();
     protected List<String> restricted = new ArrayList<>();
     protected List<String> setCodes = new ArrayList<>();
     protected List<Rarity> rarities = new ArrayList<>();
 
+    // printings of each card name seen by this validator, a table validates
+    // every submitted deck with the same instance so the card db is only
+    // asked once per name
+    private transient Map<String, Printings> printings = new ConcurrentHashMap<>();
+
     public Constructed() {
         super("Constructed");
     }
@@ -74,8 +85,6 @@ public class Constructed extends DeckValidator {
             valid = false;
         }
 
-        List<String> basicLandNames = new ArrayList<>(Arrays.asList("Forest", "Island", "Mountain", "Swamp", "Plains", "Wastes",
-                "Snow-Covered Forest", "Snow-Covered Island", "Snow-Covered Mountain", "Snow-Covered Swamp", "Snow-Covered Plains"));
         Map<String, Integer> counts = new HashMap<>();
         countCards(counts, deck.getCards());
         countCards(counts, deck.getSideboard());
@@ -147,9 +156,8 @@ public class Constructed extends DeckValidator {
     protected boolean legalRarity(Card card) {
         // check if card is legal if taken from other set
         boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (rarities.contains(cardInfo.getRarity())) {
+        for (Rarity rarity : getPrintings(card.getName()).rarities) {
+            if (rarities.contains(rarity)) {
                 legal = true;
                 break;
             }
@@ -179,9 +187,8 @@ public class Constructed extends DeckValidator {
     protected boolean legalSets(Card card) {
         // check if card is legal if taken from other set
         boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (isSetAllowed(cardInfo.getSetCode())) {
+        for (String setCode : getPrintings(card.getName()).setCodes) {
+            if (isSetAllowed(setCode)) {
                 legal = true;
                 break;
             }
@@ -191,4 +198,33 @@ public class Constructed extends DeckValidator {
         }
         return legal;
     }
+
+    private Printings getPrintings(String cardName) {
+        return printings.computeIfAbsent(cardName, name -> new Printings(CardRepository.instance.findCards(name)));
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        printings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Set codes and rarities a card name was printed with, the format's own
+     * set and rarity lists can change between validations (e.g. historic
+     * standard) so only the card db side is kept.
+     */
+    private static final class Printings {
+
+        private final Set<String> setCodes = new HashSet<>();
+        private final Set<Rarity> rarities = EnumSet.noneOf(Rarity.class);
+
+        Printings(List<CardInfo> cardInfos) {
+            for (CardInfo cardInfo : cardInfos) {
+                setCodes.add(cardInfo.getSetCode());
+                if (cardInfo.getRarity() != null) {
+                    rarities.add(cardInfo.getRarity());
+                }
+            }
+        }
+    }
 }
@@ -44,6 +44,7 @@ import mage.cards.CardSetInfo;
 import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.util.RandomUtil;
+import mage.util.metrics.EngineMetrics;
 import org.apache.log4j.Logger;
 
 /**
@@ -386,11 +387,14 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(String name) {
+        long startTime = System.nanoTime();
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             queryBuilder.where().eq("name", new SelectArg(name));
             return cardDao.query(queryBuilder.prepare());
         } catch (SQLException ex) {
+        } finally {
+            EngineMetrics.instance.getCardDbQuery().recordSince(startTime);
         }
         return Collections.emptyList();
     }
@@ -413,6 +417,7 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCards(CardCriteria criteria) {
+        long startTime = System.nanoTime();
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -420,6 +425,8 @@ public enum CardRepository {
             return cardDao.query(queryBuilder.prepare());
         } catch (SQLException ex) {
             Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement", ex);
+        } finally {
+            EngineMetrics.instance.getCardDbQuery().recordSince(startTime);
         }
         return Collections.emptyList();
     }
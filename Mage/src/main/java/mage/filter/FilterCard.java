@@ -47,6 +47,7 @@ public class FilterCard extends FilterObject<Card> {
 
     private static final long serialVersionUID = 1L;
     protected List<ObjectPlayerPredicate<ObjectPlayer<Card>>> extraPredicates = new ArrayList<>();
+    private boolean extraPredicatesShared = false;
 
     public FilterCard() {
         super("card");
@@ -58,7 +59,9 @@ public class FilterCard extends FilterObject<Card> {
 
     public FilterCard(FilterCard filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.extraPredicatesShared = true;
+        filter.extraPredicatesShared = true;
     }
 
     //20130711 708.6c
@@ -94,6 +97,10 @@ public class FilterCard extends FilterObject<Card> {
     }
 
     public void add(ObjectPlayerPredicate predicate) {
+        if (extraPredicatesShared) {
+            extraPredicates = new ArrayList<>(extraPredicates);
+            extraPredicatesShared = false;
+        }
         extraPredicates.add(predicate);
     }
 
@@ -44,6 +44,8 @@ public abstract class FilterImpl<E> implements Filter<E> {
     protected List<Predicate<Object>> predicates = new ArrayList<>();
     protected String message;
     protected boolean lockedFilter = false; // Helps to prevent to "accidently" modify the StaticFilters objects
+    // the predicates are immutable, so copies share the list until a predicate is added (copy on write)
+    private boolean predicatesShared = false;
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -54,7 +56,9 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     public FilterImpl(final FilterImpl<E> filter) {
         this.message = filter.message;
-        this.predicates = new ArrayList<>(filter.predicates);
+        this.predicates = filter.predicates;
+        this.predicatesShared = true;
+        filter.predicatesShared = true;
         this.lockedFilter = false;// After copying a filter it's allowed to modify
     }
 
@@ -71,6 +75,10 @@ public abstract class FilterImpl<E> implements Filter<E> {
         if (isLockedFilter()) {
             throw new UnsupportedOperationException("You may not modify a locked filter");
         }
+        if (predicatesShared) {
+            predicates = new ArrayList<>(predicates);
+            predicatesShared = false;
+        }
         predicates.add(predicate);
         return this;
     }
@@ -47,6 +47,7 @@ import mage.game.permanent.Permanent;
 public class FilterPermanent extends FilterObject<Permanent> implements FilterInPlay<Permanent> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    private boolean extraPredicatesShared = false;
 
     public FilterPermanent() {
         super("permanent");
@@ -54,7 +55,9 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
 
     public FilterPermanent(final FilterPermanent filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.extraPredicatesShared = true;
+        filter.extraPredicatesShared = true;
     }
 
     public FilterPermanent(String name) {
@@ -81,6 +84,10 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
     }
 
     public void add(ObjectPlayerPredicate predicate) {
+        if (extraPredicatesShared) {
+            extraPredicates = new ArrayList<>(extraPredicates);
+            extraPredicatesShared = false;
+        }
         extraPredicates.add(predicate);
     }
 
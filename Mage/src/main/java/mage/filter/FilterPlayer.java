@@ -45,6 +45,7 @@ import mage.players.Player;
 public class FilterPlayer extends FilterImpl<Player> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Player>>> extraPredicates = new ArrayList<>();
+    private boolean extraPredicatesShared = false;
 
     public FilterPlayer() {
         this("player");
@@ -56,10 +57,16 @@ public class FilterPlayer extends FilterImpl<Player> {
 
     public FilterPlayer(final FilterPlayer filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.extraPredicatesShared = true;
+        filter.extraPredicatesShared = true;
     }
 
     public void add(ObjectPlayerPredicate predicate) {
+        if (extraPredicatesShared) {
+            extraPredicates = new ArrayList<>(extraPredicates);
+            extraPredicatesShared = false;
+        }
         extraPredicates.add(predicate);
     }
 
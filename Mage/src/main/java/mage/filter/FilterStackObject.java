@@ -45,6 +45,7 @@ import mage.game.stack.StackObject;
 public class FilterStackObject extends FilterObject<StackObject> {
 
     protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    private boolean extraPredicatesShared = false;
 
     public FilterStackObject() {
         super("spell or ability");
@@ -56,7 +57,9 @@ public class FilterStackObject extends FilterObject<StackObject> {
 
     public FilterStackObject(final FilterStackObject filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.extraPredicatesShared = true;
+        filter.extraPredicatesShared = true;
     }
 
     public boolean match(StackObject stackObject, UUID sourceId, UUID playerId, Game game) {
@@ -68,6 +71,10 @@ public class FilterStackObject extends FilterObject<StackObject> {
     }
 
     public void add(ObjectPlayerPredicate predicate) {
+        if (extraPredicatesShared) {
+            extraPredicates = new ArrayList<>(extraPredicates);
+            extraPredicatesShared = false;
+        }
         extraPredicates.add(predicate);
     }
 
@@ -209,6 +209,19 @@ public interface Game extends MageItem, Serializable {
 
     MageObject getLastKnownInformation(UUID objectId, Zone zone, int zoneChangeCounter);
 
+    /**
+     * Same as getLastKnownInformation but returns the stored object itself
+     * instead of a copy. Only for read access, the returned object must not be
+     * changed.
+     *
+     * @param objectId
+     * @param zone
+     * @return
+     */
+    MageObject getLastKnownInformationSnapshot(UUID objectId, Zone zone);
+
+    MageObject getLastKnownInformationSnapshot(UUID objectId, Zone zone, int zoneChangeCounter);
+
     boolean getShortLivingLKI(UUID objectId, Zone zone);
 
     void rememberLKI(UUID objectId, Zone zone, MageObject object);
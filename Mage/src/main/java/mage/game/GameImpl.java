@@ -90,6 +90,7 @@ import mage.util.GameLog;
 import mage.util.MessageToClient;
 import mage.util.RandomUtil;
 import mage.util.functions.ApplyToPermanent;
+import mage.util.metrics.EngineMetrics;
 import mage.watchers.Watchers;
 import mage.watchers.common.*;
 import org.apache.log4j.Logger;
@@ -114,6 +115,8 @@ public abstract class GameImpl implements Game, Serializable {
 
     protected Map<Zone, HashMap<UUID, MageObject>> lki = new EnumMap<>(Zone.class);
     protected Map<UUID, Map<Integer, MageObject>> lkiExtended = new HashMap<>();
+    // LKI of spells by the id of their card, so spells can be found by card id without scanning the whole LKI
+    protected Map<Zone, HashMap<UUID, MageObject>> lkiSpellCards = new EnumMap<>(Zone.class);
     // Used to check if an object was moved by the current effect in resolution (so Wrath like effect can be handled correctly)
     protected Map<Zone, Set<UUID>> shortLivingLKI = new EnumMap<>(Zone.class);
 
@@ -192,6 +195,7 @@ public abstract class GameImpl implements Game, Serializable {
         this.gameOptions = game.gameOptions;
         this.lki.putAll(game.lki);
         this.lkiExtended.putAll(game.lkiExtended);
+        this.lkiSpellCards.putAll(game.lkiSpellCards);
         this.shortLivingLKI.putAll(game.shortLivingLKI);
         this.permanentsEntering.putAll(game.permanentsEntering);
         if (logger.isDebugEnabled()) {
@@ -306,26 +310,28 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
-            state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
+            if (state.getZone(objectId) != Zone.BATTLEFIELD) {
+                state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
+            }
             return object;
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
+        StackObject item = state.getStack().getStackObjectById(objectId);
+        if (item != null) {
+            if (state.getZone(objectId) != Zone.STACK) {
                 state.setZone(objectId, Zone.STACK); // why is this neccessary?
-                return item;
-            }
-            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
-                return item;
             }
+            return item;
+        }
+        item = state.getStack().getSpell(objectId);
+        if (item != null) {
+            return item;
         }
 
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        object = state.getCommand().getCommandObject(objectId);
+        if (object != null) {
+            return object;
         }
 
         object = getCard(objectId);
@@ -354,9 +360,8 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
             return object;
         }
         // can be an ability of a sacrificed Token trying to get it's source object
@@ -364,18 +369,13 @@ public abstract class GameImpl implements Game, Serializable {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().getCommandObject(objectId);
+        if (commandObject instanceof Commander) {
+            return commandObject;
         }
         object = getCard(objectId);
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            return commandObject;
         }
         return object;
     }
@@ -1304,9 +1304,15 @@ public abstract class GameImpl implements Game, Serializable {
                         state.setPriorityPlayerId(player.getId());
                         while (!player.isPassed() && player.canRespond() && !isPaused() && !checkIfGameIsOver()) {
                             if (!resuming) {
+                                long startTime = System.nanoTime();
                                 // 603.3. Once an ability has triggered, its controller puts it on the stack as an object that's not a card the next time a player would receive priority
                                 checkStateAndTriggered();
+                                long stateCheckedTime = System.nanoTime();
                                 applyEffects();
+                                if (!isSimulation()) {
+                                    EngineMetrics.instance.getCheckStateAndTriggered().record(stateCheckedTime - startTime);
+                                    EngineMetrics.instance.getApplyEffects().recordSince(stateCheckedTime);
+                                }
                                 if (state.getStack().isEmpty()) {
                                     resetLKI();
                                 }
@@ -1315,7 +1321,12 @@ public abstract class GameImpl implements Game, Serializable {
                                     return;
                                 }
                                 // resetPassed should be called if player performs any action
-                                if (player.priority(this)) {
+                                long priorityStartTime = System.nanoTime();
+                                boolean actionPerformed = player.priority(this);
+                                if (!player.isHuman() && !isSimulation()) {
+                                    EngineMetrics.instance.getComputerDecision().recordSince(priorityStartTime);
+                                }
+                                if (actionPerformed) {
                                     if (executingRollback()) {
                                         return;
                                     }
@@ -2566,25 +2577,14 @@ public abstract class GameImpl implements Game, Serializable {
      */
     @Override
     public MageObject getLastKnownInformation(UUID objectId, Zone zone) {
-        /*if (!lki.containsKey(objectId)) {
-         return getCard(objectId);
-         }*/
         Map<UUID, MageObject> lkiMap = lki.get(zone);
         if (lkiMap != null) {
             MageObject object = lkiMap.get(objectId);
             if (object != null) {
                 return object.copy();
             }
-            for (MageObject mageObject : lkiMap.values()) {
-                if (mageObject instanceof Spell) {
-                    if (((Spell) mageObject).getCard().getId().equals(objectId)) {
-                        return mageObject;
-                    }
-                }
-
-            }
         }
-        return null;
+        return getLastKnownSpellByCardId(objectId, zone);
     }
 
     @Override
@@ -2603,6 +2603,40 @@ public abstract class GameImpl implements Game, Serializable {
         return getLastKnownInformation(objectId, zone);
     }
 
+    @Override
+    public MageObject getLastKnownInformationSnapshot(UUID objectId, Zone zone) {
+        Map<UUID, MageObject> lkiMap = lki.get(zone);
+        if (lkiMap != null) {
+            MageObject object = lkiMap.get(objectId);
+            if (object != null) {
+                return object;
+            }
+        }
+        return getLastKnownSpellByCardId(objectId, zone);
+    }
+
+    @Override
+    public MageObject getLastKnownInformationSnapshot(UUID objectId, Zone zone, int zoneChangeCounter) {
+        if (zone == Zone.BATTLEFIELD) {
+            Map<Integer, MageObject> lkiMapExtended = lkiExtended.get(objectId);
+            if (lkiMapExtended != null) {
+                MageObject object = lkiMapExtended.get(zoneChangeCounter);
+                if (object != null) {
+                    return object;
+                }
+            }
+        }
+        return getLastKnownInformationSnapshot(objectId, zone);
+    }
+
+    private MageObject getLastKnownSpellByCardId(UUID cardId, Zone zone) {
+        Map<UUID, MageObject> spellCards = lkiSpellCards.get(zone);
+        if (spellCards != null) {
+            return spellCards.get(cardId);
+        }
+        return null;
+    }
+
     @Override
     public boolean getShortLivingLKI(UUID objectId, Zone zone) {
         Set<UUID> idSet = shortLivingLKI.get(zone);
@@ -2632,6 +2666,9 @@ public abstract class GameImpl implements Game, Serializable {
                 newMap.put(objectId, copy);
                 lki.put(zone, newMap);
             }
+            if (object instanceof Spell) {
+                lkiSpellCards.computeIfAbsent(zone, k -> new HashMap<>()).put(((Spell) object).getCard().getId(), copy);
+            }
             // remembers if a object was in a zone during the resolution of an effect
             // e.g. Wrath destroys all and you the question is is the replacement effect to apply because the source was also moved by the same effect
             // because it ahppens all at the same time the replcaement effect has still to be applied
@@ -2657,6 +2694,7 @@ public abstract class GameImpl implements Game, Serializable {
     public void resetLKI() {
         lki.clear();
         lkiExtended.clear();
+        lkiSpellCards.clear();
         infiniteLoopCounter = 0;
         stackObjectsCheck.clear();
     }
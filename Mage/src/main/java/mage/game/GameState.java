@@ -29,6 +29,7 @@ package mage.game;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import mage.MageObject;
 import mage.abilities.*;
 import mage.abilities.effects.ContinuousEffect;
@@ -57,6 +58,7 @@ import mage.players.Players;
 import mage.target.Target;
 import mage.util.Copyable;
 import mage.util.ThreadLocalStringBuilder;
+import mage.util.metrics.EngineMetrics;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
 
@@ -111,11 +113,18 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
+    // after a copy the card states are shared with the other state until one
+    // of them is changed, the ones copied since then are owned by this state
+    private boolean cardStatesShared;
+    private Set<UUID> ownedCardStates = new HashSet<>();
     private Map<UUID, CardAttribute> cardAttribute = new HashMap<>();
     private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
     private Map<UUID, Card> copiedCards = new HashMap<>();
     private int permanentOrderNumber;
 
+    private static final AtomicLong stateVersionSequence = new AtomicLong();
+    private long stateVersion;
+
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
@@ -177,15 +186,16 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
+        this.cardState.putAll(state.cardState);
+        this.cardStatesShared = true;
+        state.shareCardStates();
         for (Map.Entry<UUID, CardAttribute> entry : state.cardAttribute.entrySet()) {
             cardAttribute.put(entry.getKey(), entry.getValue().copy());
         }
         this.zoneChangeCounter.putAll(state.zoneChangeCounter);
         this.copiedCards.putAll(state.copiedCards);
         this.permanentOrderNumber = state.permanentOrderNumber;
+        this.stateVersion = state.stateVersion;
     }
 
     public void restoreForRollBack(GameState state) {
@@ -224,10 +234,14 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.zones = state.zones;
         this.simultaneousEvents = state.simultaneousEvents;
         this.cardState = state.cardState;
+        this.cardStatesShared = true;
+        this.ownedCardStates = new HashSet<>();
+        state.shareCardStates();
         this.cardAttribute = state.cardAttribute;
         this.zoneChangeCounter = state.zoneChangeCounter;
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
+        stateChanged();
     }
 
     @Override
@@ -414,6 +428,24 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     public void setPriorityPlayerId(UUID priorityPlayerId) {
         this.priorityPlayerId = priorityPlayerId;
+        stateChanged();
+    }
+
+    /**
+     * Version of the game state. Changes with every event that is handled or
+     * replaced and if the priority or the whole state changes, so values
+     * calculated from the state can be reused as long as it's the same. The
+     * versions are unique over all games, so a restored state never gets the
+     * version of another state.
+     *
+     * @return
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    private void stateChanged() {
+        stateVersion = stateVersionSequence.incrementAndGet();
     }
 
     public UUID getMonarchId() {
@@ -656,6 +688,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
+        stateChanged();
         simultaneousEvents.add(event);
     }
 
@@ -678,6 +711,10 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        stateChanged();
+        if (!game.isSimulation()) {
+            EngineMetrics.instance.eventFired();
+        }
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -688,6 +725,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public boolean replaceEvent(GameEvent event, Ability targetAbility, Game game) {
+        stateChanged();
         if (effects.preventedByRuleModification(event, targetAbility, game, false)) {
             return true;
         }
@@ -941,15 +979,16 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
+        // the abilities are used and changed by the callers, so the state has to be owned
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+            return getCardState(objectId).getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
         if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+            return getCardState(objectId).getAbilities();
         }
         return null;
     }
@@ -981,10 +1020,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1006,8 +1042,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
         this.setLegendaryRuleActive(true);
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
+        for (Map.Entry<UUID, CardState> entry : cardState.entrySet()) {
+            if (!entry.getValue().getAbilities().isEmpty()) {
+                getOwnedCardState(entry).clearAbilities();
+            }
         }
         cardAttribute.clear();
     }
@@ -1070,11 +1108,53 @@ public class GameState implements Serializable, Copyable<GameState> {
         return triggers;
     }
 
+    /**
+     * Returns the state of the card to read or change, creates it if the card
+     * has none yet.
+     *
+     * @param cardId
+     * @return
+     */
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
+        CardState state = cardState.get(cardId);
+        if (state == null) {
+            state = new CardState();
+            cardState.put(cardId, state);
+            if (cardStatesShared) {
+                ownedCardStates.add(cardId);
+            }
+            return state;
+        }
+        if (cardStatesShared && ownedCardStates.add(cardId)) {
+            state = state.copy();
+            cardState.put(cardId, state);
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state of the card only to read it, the state can be shared
+     * with copies of this game state so it must not be changed.
+     *
+     * @param cardId
+     * @return the card state or null if the card has none
+     */
+    public CardState findCardState(UUID cardId) {
         return cardState.get(cardId);
     }
 
+    private CardState getOwnedCardState(Map.Entry<UUID, CardState> entry) {
+        if (cardStatesShared && ownedCardStates.add(entry.getKey())) {
+            entry.setValue(entry.getValue().copy());
+        }
+        return entry.getValue();
+    }
+
+    private void shareCardStates() {
+        cardStatesShared = true;
+        ownedCardStates.clear();
+    }
+
     public CardAttribute getCardAttribute(UUID cardId) {
         return cardAttribute.get(cardId);
     }
@@ -1101,7 +1181,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.zoneChangeCounter.put(objectId, value);
         // card is changing zone so clear state
         if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+            getCardState(objectId).clear();
         }
     }
 
@@ -647,6 +647,10 @@ public class Combat implements Serializable, Copyable<Combat> {
      * @return
      */
     public boolean checkBlockRequirementsAfter(Player player, Player controller, Game game) {
+        if (!game.getContinuousEffects().existRequirementEffects() && creatureMustBlockAttackers.isEmpty()) {
+            // no requirements, so every block is fine (the usual case, no need to check each creature)
+            return true;
+        }
         // Get once a list of all opponents in range
         Set<UUID> opponents = game.getOpponents(attackingPlayerId);
         //20101001 - 509.1c
@@ -29,6 +29,11 @@
 package mage.game.command;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  *
@@ -36,6 +41,9 @@ import java.util.ArrayList;
  */
 public class Command extends ArrayList<CommandObject> {
 
+    // id index of the command objects, so lookups by id don't have to scan the command zone
+    private final Map<UUID, CommandObject> objectsById = new HashMap<>();
+
     public Command () {}
 
     public Command(final Command command) {
@@ -51,4 +59,94 @@ public class Command extends ArrayList<CommandObject> {
     public Command copy() {
         return new Command(this);
     }
+
+    public CommandObject getCommandObject(UUID id) {
+        return objectsById.get(id);
+    }
+
+    @Override
+    public boolean add(CommandObject commandObject) {
+        objectsById.put(commandObject.getId(), commandObject);
+        return super.add(commandObject);
+    }
+
+    @Override
+    public void add(int index, CommandObject commandObject) {
+        objectsById.put(commandObject.getId(), commandObject);
+        super.add(index, commandObject);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends CommandObject> commandObjects) {
+        for (CommandObject commandObject : commandObjects) {
+            objectsById.put(commandObject.getId(), commandObject);
+        }
+        return super.addAll(commandObjects);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends CommandObject> commandObjects) {
+        for (CommandObject commandObject : commandObjects) {
+            objectsById.put(commandObject.getId(), commandObject);
+        }
+        return super.addAll(index, commandObjects);
+    }
+
+    @Override
+    public CommandObject set(int index, CommandObject commandObject) {
+        CommandObject replaced = super.set(index, commandObject);
+        reindex();
+        return replaced;
+    }
+
+    @Override
+    public CommandObject remove(int index) {
+        CommandObject removed = super.remove(index);
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object commandObject) {
+        boolean removed = super.remove(commandObject);
+        if (removed) {
+            reindex();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> commandObjects) {
+        boolean removed = super.removeAll(commandObjects);
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> commandObjects) {
+        boolean removed = super.retainAll(commandObjects);
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super CommandObject> filter) {
+        boolean removed = super.removeIf(filter);
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        objectsById.clear();
+    }
+
+    private void reindex() {
+        // the command zone is small, so it's rebuilt instead of tracking the removed objects
+        objectsById.clear();
+        for (CommandObject commandObject : this) {
+            objectsById.put(commandObject.getId(), commandObject);
+        }
+    }
 }
@@ -28,8 +28,15 @@
 package mage.game.stack;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.function.Predicate;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.constants.ZoneDetail;
@@ -45,8 +52,20 @@ public class SpellStack extends ArrayDeque<StackObject> {
 
     private static final Logger logger = Logger.getLogger(SpellStack.class);
 
+    // below this size a scan is cheaper than building the index
+    private static final int INDEX_MIN_SIZE = 8;
+
     protected Date dateLastAdded;
 
+    // lookup by id and source id for big stacks (storm, copy chains). The maps
+    // are built on the first lookup, so a stack copy only builds them if it's
+    // searched, and are then kept up to date by the changing methods. Objects
+    // with the same source id are kept topmost first, like a scan from the top
+    // would find them.
+    private transient Map<UUID, StackObject> idIndex;
+    private transient Map<UUID, Deque<StackObject>> sourceIdIndex;
+    private transient Map<UUID, Deque<Spell>> spellSourceIdIndex;
+
     public SpellStack() {
     }
 
@@ -74,10 +93,9 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public boolean remove(StackObject object) {
-        for (StackObject spell : this) {
-            if (spell.getId().equals(object.getId())) {
-                return super.remove(spell);
-            }
+        StackObject spell = getStackObjectById(object.getId());
+        if (spell != null) {
+            return removeFirstOccurrence(spell);
         }
         return false;
     }
@@ -123,6 +141,13 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public StackObject getStackObject(UUID id) {
+        if (size() >= INDEX_MIN_SIZE && buildIndex()) {
+            StackObject stackObject = idIndex.get(id);
+            if (stackObject != null) {
+                return stackObject;
+            }
+            return getTopmost(sourceIdIndex, id);
+        }
         for (StackObject stackObject : this) {
             UUID objectId = stackObject.getId();
             if (objectId.equals(id)) {
@@ -136,7 +161,30 @@ public class SpellStack extends ArrayDeque<StackObject> {
         return null;
     }
 
+    /**
+     * @param id
+     * @return the stack object with the given id (not source id)
+     */
+    public StackObject getStackObjectById(UUID id) {
+        if (size() >= INDEX_MIN_SIZE && buildIndex()) {
+            return idIndex.get(id);
+        }
+        for (StackObject stackObject : this) {
+            if (stackObject.getId().equals(id)) {
+                return stackObject;
+            }
+        }
+        return null;
+    }
+
     public Spell getSpell(UUID id) {
+        if (size() >= INDEX_MIN_SIZE && buildIndex()) {
+            StackObject stackObject = idIndex.get(id);
+            if (stackObject instanceof Spell) {
+                return (Spell) stackObject;
+            }
+            return getTopmost(spellSourceIdIndex, id);
+        }
         for (StackObject stackObject : this) {
             if (stackObject instanceof Spell) {
                 if (stackObject.getId().equals(id) || stackObject.getSourceId().equals(id)) {
@@ -147,16 +195,269 @@ public class SpellStack extends ArrayDeque<StackObject> {
         return null;
     }
 
+    /**
+     * @return false if no index could be built, the stack has to be scanned
+     */
+    private boolean buildIndex() {
+        if (idIndex != null) {
+            return true;
+        }
+        idIndex = new HashMap<>(size() * 2);
+        sourceIdIndex = new HashMap<>(size() * 2);
+        spellSourceIdIndex = new HashMap<>();
+        for (StackObject stackObject : this) {
+            addToIndex(stackObject, false);
+        }
+        return idIndex != null;
+    }
+
+    private void clearIndex() {
+        idIndex = null;
+        sourceIdIndex = null;
+        spellSourceIdIndex = null;
+    }
+
+    private void addToIndex(StackObject stackObject, boolean top) {
+        if (idIndex == null) {
+            return;
+        }
+        if (idIndex.putIfAbsent(stackObject.getId(), stackObject) != null) {
+            // the same id twice shouldn't happen, rebuild on the next lookup instead of tracking it
+            clearIndex();
+            return;
+        }
+        addToIndex(sourceIdIndex, stackObject.getSourceId(), stackObject, top);
+        if (stackObject instanceof Spell) {
+            addToIndex(spellSourceIdIndex, stackObject.getSourceId(), (Spell) stackObject, top);
+        }
+    }
+
+    private void removeFromIndex(StackObject stackObject) {
+        if (idIndex == null) {
+            return;
+        }
+        idIndex.remove(stackObject.getId(), stackObject);
+        removeFromIndex(sourceIdIndex, stackObject.getSourceId(), stackObject);
+        if (stackObject instanceof Spell) {
+            removeFromIndex(spellSourceIdIndex, stackObject.getSourceId(), (Spell) stackObject);
+        }
+    }
+
+    private static <T extends StackObject> void addToIndex(Map<UUID, Deque<T>> index, UUID sourceId, T stackObject, boolean top) {
+        Deque<T> stackObjects = index.computeIfAbsent(sourceId, k -> new ArrayDeque<>(2));
+        if (top) {
+            stackObjects.addFirst(stackObject);
+        } else {
+            stackObjects.addLast(stackObject);
+        }
+    }
+
+    private static <T extends StackObject> void removeFromIndex(Map<UUID, Deque<T>> index, UUID sourceId, T stackObject) {
+        Deque<T> stackObjects = index.get(sourceId);
+        if (stackObjects != null) {
+            stackObjects.removeFirstOccurrence(stackObject);
+            if (stackObjects.isEmpty()) {
+                index.remove(sourceId);
+            }
+        }
+    }
+
+    private static <T extends StackObject> T getTopmost(Map<UUID, Deque<T>> index, UUID sourceId) {
+        Deque<T> stackObjects = index.get(sourceId);
+        return stackObjects == null ? null : stackObjects.peekFirst();
+    }
+
     public SpellStack copy() {
         return new SpellStack(this);
     }
 
+    // the index is updated by addFirst, addLast, pollFirst, pollLast and the
+    // remove occurrence methods only, all other single element methods go
+    // through them here instead of relying on how the deque implements them,
+    // so an object is never indexed twice
+
     @Override
     public void push(StackObject e) {
-        super.push(e);
+        addFirst(e);
         this.dateLastAdded = new Date();
     }
 
+    @Override
+    public void addFirst(StackObject e) {
+        super.addFirst(e);
+        addToIndex(e, true);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        super.addLast(e);
+        addToIndex(e, false);
+    }
+
+    @Override
+    public boolean offerFirst(StackObject e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(StackObject e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean add(StackObject e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(StackObject e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        StackObject stackObject = super.pollFirst();
+        if (stackObject != null) {
+            removeFromIndex(stackObject);
+        }
+        return stackObject;
+    }
+
+    @Override
+    public StackObject pollLast() {
+        StackObject stackObject = super.pollLast();
+        if (stackObject != null) {
+            removeFromIndex(stackObject);
+        }
+        return stackObject;
+    }
+
+    @Override
+    public StackObject removeFirst() {
+        StackObject stackObject = pollFirst();
+        if (stackObject == null) {
+            throw new NoSuchElementException();
+        }
+        return stackObject;
+    }
+
+    @Override
+    public StackObject removeLast() {
+        StackObject stackObject = pollLast();
+        if (stackObject == null) {
+            throw new NoSuchElementException();
+        }
+        return stackObject;
+    }
+
+    @Override
+    public StackObject poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public StackObject pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public StackObject remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (super.removeFirstOccurrence(o)) {
+            removeFromIndex((StackObject) o);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (super.removeLastOccurrence(o)) {
+            removeFromIndex((StackObject) o);
+            return true;
+        }
+        return false;
+    }
+
+    // bulk changes are rare, they drop the index and it's rebuilt on the next lookup
+
+    @Override
+    public boolean addAll(Collection<? extends StackObject> c) {
+        clearIndex();
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        clearIndex();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        clearIndex();
+        return super.removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        clearIndex();
+        return super.retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        clearIndex();
+        super.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new IndexClearingIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new IndexClearingIterator(super.descendingIterator());
+    }
+
+    private final class IndexClearingIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> iterator;
+
+        IndexClearingIterator(Iterator<StackObject> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            clearIndex();
+            iterator.remove();
+        }
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
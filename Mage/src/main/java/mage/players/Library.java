@@ -35,7 +35,6 @@ import mage.util.RandomUtil;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -43,19 +42,19 @@ import java.util.stream.Collectors;
 public class Library implements Serializable {
 
     private boolean emptyDraw;
-    private final Deque<UUID> library = new ArrayDeque<>();
+    private final Deque<UUID> library;
     private final UUID playerId;
 
     public Library(UUID playerId) {
         this.playerId = playerId;
+        this.library = new ArrayDeque<>();
     }
 
     public Library(final Library lib) {
         this.emptyDraw = lib.emptyDraw;
         this.playerId = lib.playerId;
-        for (UUID id : lib.library) {
-            this.library.addLast(id);
-        }
+        // sized for the whole library up front, so it never grows while copying
+        this.library = new ArrayDeque<>(lib.library);
     }
 
     /**
@@ -159,9 +158,9 @@ public class Library implements Serializable {
     }
 
     public void set(Library newLibrary) {
-        library.clear();
-        for (UUID card : newLibrary.getCardList()) {
-            library.add(card);
+        if (newLibrary != this) {
+            library.clear();
+            library.addAll(newLibrary.library);
         }
     }
 
@@ -170,7 +169,11 @@ public class Library implements Serializable {
     }
 
     public List<Card> getCards(Game game) {
-        return library.stream().map(game::getCard).collect(Collectors.toList());
+        List<Card> cards = new ArrayList<>(library.size());
+        for (UUID cardId : library) {
+            cards.add(game.getCard(cardId));
+        }
+        return cards;
     }
 
     public Set<Card> getTopCards(Game game, int amount) {
@@ -206,6 +206,10 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     protected List<Designation> designations = new ArrayList<>();
 
+    // cards of the hand that can be played, valid as long as the game state version doesn't change
+    private transient Set<UUID> playableInHand;
+    private transient long playableInHandStateVersion;
+
     /**
      * During some steps we can't play anything
      */
@@ -2915,8 +2919,17 @@ public abstract class PlayerImpl implements Player, Serializable {
      * @return A Set of cardIds that are playable
      */
     @Override
-    public Set<UUID> getPlayableInHand(Game game
-    ) {
+    public Set<UUID> getPlayableInHand(Game game) {
+        // the game view is rebuilt for every update, but the playable cards only change if something happened in the game
+        if (playableInHand == null || playableInHandStateVersion != game.getState().getStateVersion()) {
+            playableInHand = Collections.unmodifiableSet(calculatePlayableInHand(game));
+            // taken after the calculation, so events checked during the calculation don't invalidate the result
+            playableInHandStateVersion = game.getState().getStateVersion();
+        }
+        return playableInHand;
+    }
+
+    private Set<UUID> calculatePlayableInHand(Game game) {
         Set<UUID> playable = new HashSet<>();
         if (!shouldSkipGettingPlayable(game)) {
             ManaOptions available = getManaAvailable(game);
@@ -0,0 +1,60 @@
+package mage.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings and counters of the engine for all games of this JVM. Simulated
+ * games (AI) are not counted. The server reads them for its metrics.
+ */
+public enum EngineMetrics {
+
+    instance;
+
+    private final LatencyHistogram checkStateAndTriggered = new LatencyHistogram();
+    private final LatencyHistogram applyEffects = new LatencyHistogram();
+    private final LatencyHistogram computerDecision = new LatencyHistogram();
+    private final LatencyHistogram cardDbQuery = new LatencyHistogram();
+    private final LongAdder eventsFired = new LongAdder();
+
+    /**
+     * @return time of the state-based actions and triggers check before a
+     * player gets priority
+     */
+    public LatencyHistogram getCheckStateAndTriggered() {
+        return checkStateAndTriggered;
+    }
+
+    /**
+     * @return time of the effect application before a player gets priority
+     */
+    public LatencyHistogram getApplyEffects() {
+        return applyEffects;
+    }
+
+    /**
+     * @return time a computer player needs to act on priority
+     */
+    public LatencyHistogram getComputerDecision() {
+        return computerDecision;
+    }
+
+    public LatencyHistogram getCardDbQuery() {
+        return cardDbQuery;
+    }
+
+    public void eventFired() {
+        eventsFired.increment();
+    }
+
+    public long getEventsFired() {
+        return eventsFired.sum();
+    }
+
+    public void reset() {
+        checkStateAndTriggered.reset();
+        applyEffects.reset();
+        computerDecision.reset();
+        cardDbQuery.reset();
+        eventsFired.reset();
+    }
+}
@@ -0,0 +1,106 @@
+package mage.util.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency distribution with power of two microsecond buckets
+ * (bucket i counts durations below 2^i us). Recording is a few adds, so it can
+ * be used on the hot paths, percentiles are reported as the upper bound of the
+ * bucket they fall into.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 27; // last bucket counts everything from 2^25 us (~33 s) on
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param startNanos {@link System#nanoTime()} taken before the measured
+     * work
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        buckets[Math.min(bucket, BUCKETS - 1)].increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getAverageMicros() {
+        long count = getCount();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / count);
+    }
+
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+
+    /**
+     * @param percentile 0 - 100
+     * @return upper bound in microseconds of the bucket the percentile falls
+     * into, 0 if nothing was recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(1L << i, getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "count " + getCount()
+                + ", avg " + getAverageMicros()
+                + " us, p50 " + getPercentileMicros(50)
+                + " us, p90 " + getPercentileMicros(90)
+                + " us, p99 " + getPercentileMicros(99)
+                + " us, max " + getMaxMicros() + " us";
+    }
+}
@@ -0,0 +1,36 @@
+package mage.abilities;
+
+import java.util.List;
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.HasteAbility;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AbilitiesImplTest {
+
+    @Test
+    public void testRulesFollowChangesOfTheCollection() {
+        Abilities<Ability> abilities = new AbilitiesImpl<>(FlyingAbility.getInstance());
+        Assert.assertEquals(1, abilities.getRules("test").size());
+
+        abilities.add(HasteAbility.getInstance());
+        List<String> rules = abilities.getRules("test");
+        Assert.assertEquals(2, rules.size());
+        Assert.assertEquals("Haste", rules.get(1));
+
+        abilities.remove(FlyingAbility.getInstance());
+        Assert.assertEquals(1, abilities.getRules("test").size());
+
+        abilities.clear();
+        Assert.assertTrue(abilities.getRules("test").isEmpty());
+    }
+
+    @Test
+    public void testReturnedRulesDontChangeTheCache() {
+        Abilities<Ability> abilities = new AbilitiesImpl<>(FlyingAbility.getInstance());
+        abilities.getRules("test").add("info");
+        Assert.assertEquals(1, abilities.getRules("test").size());
+        Assert.assertEquals(1, abilities.copy().getRules("test").size());
+        Assert.assertEquals("flying", abilities.getRules("test", false).get(0));
+    }
+}
@@ -0,0 +1,95 @@
+package mage.game.stack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.abilities.common.SimpleStaticAbility;
+import mage.abilities.effects.common.InfoEffect;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The id and source id index of big stacks has to give the same results as a
+ * scan of the stack after every change.
+ */
+public class SpellStackTest {
+
+    private static StackAbility createStackAbility(UUID sourceId) {
+        Ability ability = new SimpleStaticAbility(Zone.STACK, new InfoEffect("test"));
+        ability.setSourceId(sourceId);
+        return new StackAbility(ability, UUID.randomUUID());
+    }
+
+    private static StackObject scanById(SpellStack stack, UUID id) {
+        for (StackObject stackObject : stack) {
+            if (stackObject.getId().equals(id)) {
+                return stackObject;
+            }
+        }
+        return null;
+    }
+
+    private static StackObject scanBySourceId(SpellStack stack, UUID sourceId) {
+        for (StackObject stackObject : stack) {
+            if (stackObject.getSourceId().equals(sourceId)) {
+                return stackObject;
+            }
+        }
+        return null;
+    }
+
+    private static void assertLookups(SpellStack stack, List<StackAbility> all, List<UUID> sourceIds) {
+        for (StackAbility stackAbility : all) {
+            Assert.assertSame(scanById(stack, stackAbility.getId()), stack.getStackObjectById(stackAbility.getId()));
+            Assert.assertSame(scanById(stack, stackAbility.getId()), stack.getStackObject(stackAbility.getId()));
+        }
+        for (UUID sourceId : sourceIds) {
+            Assert.assertSame(scanBySourceId(stack, sourceId), stack.getStackObject(sourceId));
+        }
+    }
+
+    @Test
+    public void testLookupsWhilePushingAndResolving() {
+        SpellStack stack = new SpellStack();
+        List<StackAbility> all = new ArrayList<>();
+        List<UUID> sourceIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sourceIds.add(UUID.randomUUID());
+        }
+
+        // big enough to use the index, objects of the same source are on the stack several times
+        for (int i = 0; i < 30; i++) {
+            StackAbility stackAbility = createStackAbility(sourceIds.get(i % sourceIds.size()));
+            all.add(stackAbility);
+            stack.push(stackAbility);
+            assertLookups(stack, all, sourceIds);
+        }
+
+        // resolve from the top, counter from the middle and add new ones in between
+        for (int i = 0; i < 10; i++) {
+            stack.poll();
+            assertLookups(stack, all, sourceIds);
+
+            stack.remove(all.get(i * 2));
+            assertLookups(stack, all, sourceIds);
+
+            StackAbility stackAbility = createStackAbility(sourceIds.get(i % sourceIds.size()));
+            all.add(stackAbility);
+            stack.push(stackAbility);
+            assertLookups(stack, all, sourceIds);
+        }
+
+        // a copy starts without index and has to find its own objects
+        SpellStack copy = stack.copy();
+        for (StackObject stackObject : copy) {
+            Assert.assertSame(stackObject, copy.getStackObjectById(stackObject.getId()));
+        }
+
+        while (!stack.isEmpty()) {
+            stack.pop();
+            assertLookups(stack, all, sourceIds);
+        }
+    }
+}